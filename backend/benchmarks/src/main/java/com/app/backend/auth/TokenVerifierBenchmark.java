@@ -0,0 +1,140 @@
+package com.app.backend.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.cert.CertificateFactory;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// RS256 verification of a Firebase ID token, run on every authenticated request that misses
+// the verified token cache. "firebase-admin" is the Admin SDK verifier as a baseline for the
+// in-process "local" one; it is served the fixture certificate from a mock transport, so
+// neither arm touches the network.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerifierBenchmark {
+
+    private static final String PROJECT_ID = "bench-project";
+    private static final String KEY_ID = "bench-key";
+
+    // Matches auth.token-verifier
+    @Param({"local", "firebase-admin"})
+    public String verifierType;
+
+    private TokenVerifier verifier;
+    private String idToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        String certificate = resource("auth/bench-signing-cert.pem");
+        PublicKey publicKey = CertificateFactory.getInstance("X.509")
+                .generateCertificate(new ByteArrayInputStream(certificate.getBytes(StandardCharsets.US_ASCII)))
+                .getPublicKey();
+        PrivateKey privateKey = KeyFactory.getInstance("RSA")
+                .generatePrivate(new PKCS8EncodedKeySpec(pemBody(resource("auth/bench-signing-key.pem"))));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        verifier = switch (verifierType) {
+            case "local" -> new LocalJwtTokenVerifier(
+                    keyId -> KEY_ID.equals(keyId) ? publicKey : null, objectMapper, PROJECT_ID);
+            case "firebase-admin" -> {
+                initializeFirebase(objectMapper.writeValueAsString(Map.of(KEY_ID, certificate)));
+                yield new FirebaseAdminTokenVerifier();
+            }
+            default -> throw new IllegalArgumentException("Unknown verifier: " + verifierType);
+        };
+
+        long now = Instant.now().getEpochSecond();
+        Map<String, Object> header = Map.of("alg", "RS256", "typ", "JWT", "kid", KEY_ID);
+        Map<String, Object> claims = Map.of(
+                "iss", "https://securetoken.google.com/" + PROJECT_ID,
+                "aud", PROJECT_ID,
+                "sub", "bench-user",
+                "email", "bench-user@bench.local",
+                "email_verified", true,
+                "auth_time", now,
+                "iat", now,
+                "exp", now + TimeUnit.HOURS.toSeconds(1));
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString(objectMapper.writeValueAsBytes(header))
+                + "." + encoder.encodeToString(objectMapper.writeValueAsBytes(claims));
+        Signature signer = Signature.getInstance("SHA256withRSA");
+        signer.initSign(privateKey);
+        signer.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        idToken = signingInput + "." + encoder.encodeToString(signer.sign());
+    }
+
+    @TearDown
+    public void tearDown() {
+        FirebaseApp.getApps().forEach(FirebaseApp::delete);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return verifier.verify(idToken);
+    }
+
+    // The Admin SDK fetches signing certificates as JSON (key id -> PEM) and caches them for
+    // the response's max-age, as Google's endpoint does
+    private static void initializeFirebase(String certificates) {
+        MockHttpTransport transport = new MockHttpTransport.Builder()
+                .setLowLevelHttpResponse(new MockLowLevelHttpResponse()
+                        .setContentType("application/json")
+                        .addHeader("Cache-Control", "public, max-age=21600")
+                        .setContent(certificates))
+                .build();
+        FirebaseApp.initializeApp(FirebaseOptions.builder()
+                .setProjectId(PROJECT_ID)
+                .setCredentials(GoogleCredentials.create(new AccessToken("bench", new Date(Long.MAX_VALUE))))
+                .setHttpTransport(transport)
+                .build());
+    }
+
+    private static String resource(String name) throws IOException {
+        try (InputStream in = TokenVerifierBenchmark.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("Missing benchmark fixture: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static byte[] pemBody(String pem) {
+        return Base64.getMimeDecoder().decode(pem.replaceAll("-----[A-Z ]+-----", ""));
+    }
+}
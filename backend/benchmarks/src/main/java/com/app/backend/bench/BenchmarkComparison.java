@@ -0,0 +1,101 @@
+package com.app.backend.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Compares two result files of the same kind (JMH -rf json, or EndToEndBenchmark output) and
+// exits with status 1 when any metric regressed by more than the threshold.
+//
+// Usage: BenchmarkComparison <baseline.json> <current.json> [threshold-percent, default 10]
+public final class BenchmarkComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    private record Metric(double value, String unit, boolean higherIsBetter) {
+    }
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Metric> baseline = metrics(objectMapper.readTree(Path.of(args[0]).toFile()));
+        Map<String, Metric> current = metrics(objectMapper.readTree(Path.of(args[1]).toFile()));
+
+        int regressions = 0;
+        for (Map.Entry<String, Metric> entry : current.entrySet()) {
+            Metric before = baseline.get(entry.getKey());
+            Metric after = entry.getValue();
+            if (before == null || before.value() == 0) {
+                System.out.printf(Locale.ROOT, "  %-80s %12.3f %s (new)%n", entry.getKey(), after.value(), after.unit());
+                continue;
+            }
+            double change = (after.value() - before.value()) / before.value() * 100;
+            double worse = after.higherIsBetter() ? -change : change;
+            boolean regressed = worse > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%s %-80s %12.3f -> %12.3f %-8s %+7.1f%%%n",
+                    regressed ? "!" : " ", entry.getKey(), before.value(), after.value(), after.unit(), change);
+        }
+
+        System.out.printf(Locale.ROOT, "%d of %d metrics regressed by more than %.1f%%%n",
+                regressions, current.size(), threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Metric> metrics(JsonNode root) {
+        return root.isArray() ? jmhMetrics(root) : endToEndMetrics(root);
+    }
+
+    private static Map<String, Metric> jmhMetrics(JsonNode runs) {
+        Map<String, Metric> metrics = new LinkedHashMap<>();
+        for (JsonNode run : runs) {
+            StringBuilder name = new StringBuilder(run.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            JsonNode primary = run.path("primaryMetric");
+            String unit = primary.path("scoreUnit").asText();
+            // Throughput units are ops per time; everything else is time per op
+            metrics.put(name.toString(), new Metric(primary.path("score").asDouble(), unit, unit.startsWith("ops/")));
+        }
+        return metrics;
+    }
+
+    private static Map<String, Metric> endToEndMetrics(JsonNode report) {
+        Map<String, Metric> metrics = new LinkedHashMap<>();
+        for (JsonNode result : report.path("results")) {
+            // Reports from before --threads have no mode
+            String name = result.path("name").asText()
+                    + (result.has("threads") ? " [" + result.path("threads").asText() + "]" : "");
+            metrics.put(name + " throughput", new Metric(result.path("throughputPerSecond").asDouble(), "req/s", true));
+            Iterator<Map.Entry<String, JsonNode>> latencies = result.path("latencyMillis").fields();
+            while (latencies.hasNext()) {
+                Map.Entry<String, JsonNode> latency = latencies.next();
+                if (!latency.getKey().equals("max")) {
+                    metrics.put(name + " " + latency.getKey(), new Metric(latency.getValue().asDouble(), "ms", false));
+                }
+            }
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,491 @@
+package com.app.backend.bench;
+
+import com.app.backend.BackendApplication;
+import com.app.backend.catalog.Car;
+import com.app.backend.catalog.CarCatalog;
+import com.app.backend.catalog.CatalogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+// Starts the backend in-process with StubTokenVerifier, against the Firestore emulator or the
+// embedded local store, then drives every /v1/api endpoint with closed-loop workers and writes
+// throughput and latency percentiles per endpoint as JSON.
+//
+// With --repository=firestore (the default) FIRESTORE_EMULATOR_HOST must be set, e.g. after
+// `firebase emulators:start --only firestore`; --repository=local uses a fresh temp directory.
+// Arguments (all optional): --duration=20s --warmup=5s --concurrency=16 --timeout=30s
+// --only=<regex> --output=<file> --repository=firestore --project=demo-autostacks
+// --resources=../../resources --threads=platform,virtual --repository-latency=0ms
+// --repository-latency-mode=async
+//
+// The backend is started once per --threads mode, with spring.threads.virtual.enabled set to
+// match, and every endpoint is measured in each; results carry the mode they were run in.
+// A non-zero --repository-latency delays every repository call (see RepositoryLatency), so
+// "blocking" and "async" compare parking request threads on I/O against releasing them.
+public final class EndToEndBenchmark {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final int BATCH_SIZE = 10;
+    private static final List<String> THREAD_MODES = List.of("platform", "virtual");
+
+    private record Options(
+            Duration duration,
+            Duration warmup,
+            int concurrency,
+            Duration timeout,
+            Pattern only,
+            Path output,
+            String repository,
+            String projectId,
+            Path resources,
+            List<String> threads,
+            Duration repositoryLatency,
+            String repositoryLatencyMode) {
+    }
+
+    private record Scenario(String name, boolean authenticated, BiFunction<Integer, Long, HttpRequest.Builder> request) {
+    }
+
+    private record Fixtures(String carId, String brand, String taxonomyUid, String termUid, String searchTerm, String prefix) {
+    }
+
+    private final Options options;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final AtomicLong dealerSequence = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private String baseUrl;
+
+    private EndToEndBenchmark(Options options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = parse(args);
+        if (options.repository().equals("firestore") && System.getenv("FIRESTORE_EMULATOR_HOST") == null) {
+            System.err.println("FIRESTORE_EMULATOR_HOST is not set; start the Firestore emulator and export it first");
+            System.exit(2);
+        }
+        new EndToEndBenchmark(options).run();
+    }
+
+    private void run() throws Exception {
+        if (options.repository().equals("firestore")) {
+            initializeFirebase(options.projectId());
+        }
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String threads : options.threads()) {
+            System.out.println("== " + threads + " threads");
+            try (ConfigurableApplicationContext context = startBackend(threads)) {
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                Fixtures fixtures = fixtures(context.getBean(CatalogService.class).getCatalog());
+                prepareUsers();
+
+                for (Scenario scenario : scenarios(fixtures)) {
+                    if (!options.only().matcher(scenario.name()).find()) {
+                        continue;
+                    }
+                    measure(scenario, options.warmup());
+                    Map<String, Object> result = measure(scenario, options.duration());
+                    result.put("threads", threads);
+                    System.out.printf(Locale.ROOT, "%-48s %10.1f req/s  p50 %8.2f ms  p99 %8.2f ms  errors %d%n",
+                            scenario.name(), result.get("throughputPerSecond"),
+                            latency(result, "p50"), latency(result, "p99"), result.get("errors"));
+                    results.add(result);
+                }
+            }
+        }
+        writeResults(results);
+    }
+
+    // ==================== Setup ====================
+
+    private static void initializeFirebase(String projectId) {
+        if (FirebaseApp.getApps().isEmpty()) {
+            // The emulator ignores credentials, but FirebaseOptions requires some
+            FirebaseApp.initializeApp(FirebaseOptions.builder()
+                    .setProjectId(projectId)
+                    .setCredentials(GoogleCredentials.create(new AccessToken("emulator", null)))
+                    .build());
+        }
+    }
+
+    private ConfigurableApplicationContext startBackend(String threads) throws IOException {
+        Path resources = options.resources().toAbsolutePath().normalize();
+        Path popularity = Files.createTempDirectory("bench-popularity");
+        Path store = Files.createTempDirectory("bench-store");
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + threads.equals("virtual"),
+                "--repository.type=" + options.repository(),
+                "--repository.local.directory=" + store,
+                "--spring.main.banner-mode=off",
+                "--logging.level.com.app.backend=WARN",
+                "--auth.token-verifier=stub",
+                "--catalog.cars.path=" + resources.resolve("entries/car.json"),
+                "--catalog.watch=false",
+                "--search.entries.directory=" + resources.resolve("entries"),
+                "--taxonomy.directory=" + resources.resolve("taxonomies"),
+                "--popularity.checkpoint-path=" + popularity.resolve("counters.bin")));
+        if (!options.repositoryLatency().isZero()) {
+            args.add("--bench.repository-latency.delay=" + options.repositoryLatency().toMillis() + "ms");
+            args.add("--bench.repository-latency.mode=" + options.repositoryLatencyMode());
+        }
+        // As command-line arguments, so they take precedence over application.properties
+        return new SpringApplicationBuilder(BackendApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static Fixtures fixtures(CarCatalog catalog) {
+        if (catalog.size() == 0) {
+            throw new IllegalStateException("Catalog is empty; check --resources");
+        }
+        Car car = catalog.get(0);
+        Car.TaxonomyRef term = catalog.cars().stream()
+                .filter(c -> c.taxonomies() != null && !c.taxonomies().isEmpty())
+                .map(c -> c.taxonomies().get(0))
+                .findFirst()
+                .orElse(new Car.TaxonomyRef("cars_india", "unknown"));
+        String title = car.title() != null ? car.title() : car.brand();
+        String firstWord = title.split("\\s+")[0].toLowerCase(Locale.ROOT);
+        return new Fixtures(car.id(), car.brand(), term.taxonomyUid(), term.termUid(),
+                firstWord, firstWord.substring(0, Math.min(3, firstWord.length())));
+    }
+
+    // Creates each worker's profile and some history, so reads return realistic pages. Workers
+    // are set up in parallel, so setup does not take round trip x requests x workers.
+    private void prepareUsers() throws Exception {
+        List<Future<Integer>> workers = new ArrayList<>(options.concurrency());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < options.concurrency(); w++) {
+                int worker = w;
+                workers.add(executor.submit(() -> prepareUser(worker)));
+            }
+        }
+        int failed = 0;
+        for (Future<Integer> worker : workers) {
+            failed += worker.get();
+        }
+        if (failed > 0) {
+            System.err.println(failed + " setup requests failed; is the repository reachable?");
+        }
+    }
+
+    private int prepareUser(int worker) throws InterruptedException {
+        int failed = trySend(authenticated(worker, get("/v1/api/user/me")));
+        for (int i = 0; i < 20; i++) {
+            failed += trySend(authenticated(worker, post("/v1/api/interests",
+                    Map.of("carId", "car-" + i, "carOwner", "owner-" + (i % 5)))));
+        }
+        return failed;
+    }
+
+    private int trySend(HttpRequest.Builder request) throws InterruptedException {
+        try {
+            return send(request) >= 400 ? 1 : 0;
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    // ==================== Scenarios ====================
+
+    private List<Scenario> scenarios(Fixtures f) {
+        String term = "/v1/api/taxonomies/" + encode(f.taxonomyUid()) + "/terms/" + encode(f.termUid());
+        List<Map<String, String>> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(Map.of("carId", "car-" + i, "carOwner", "owner-" + i));
+        }
+
+        return List.of(
+                publicGet("GET /health", "/health"),
+                publicGet("GET /v1/api/cars", "/v1/api/cars?brand=" + encode(f.brand()) + "&limit=20"),
+                publicGet("GET /v1/api/cars/{id}", "/v1/api/cars/" + encode(f.carId())),
+                publicGet("GET /v1/api/search", "/v1/api/search?q=" + encode(f.searchTerm())),
+                publicGet("GET /v1/api/typeahead", "/v1/api/typeahead?q=" + encode(f.prefix())),
+                publicGet("GET /v1/api/trending", "/v1/api/trending?dimension=car&limit=10"),
+                publicGet("GET /v1/api/taxonomies/{t}/terms/{term}/subtree", term + "/subtree"),
+                publicGet("GET /v1/api/taxonomies/{t}/terms/{term}/ancestors", term + "/ancestors"),
+                publicGet("GET /v1/api/taxonomies/{t}/terms/{term}/cars", term + "/cars"),
+                new Scenario("POST /v1/api/auth/verify", true, (w, n) -> post("/v1/api/auth/verify", Map.of())),
+                new Scenario("GET /v1/api/user/me", true, (w, n) -> get("/v1/api/user/me")),
+                new Scenario("GET /v1/api/user/me/dashboard", true, (w, n) -> get("/v1/api/user/me/dashboard")),
+                new Scenario("GET /v1/api/composite", true, (w, n) -> get("/v1/api/composite?parts="
+                        + "car,profile,activity,interests,testDrives,availability&carId=" + encode(f.carId())
+                        + "&dealerId=bench-dealer&days=7&limit=5")),
+                new Scenario("PUT /v1/api/user/me", true, (w, n) -> put("/v1/api/user/me",
+                        Map.of("name", "Bench User " + w, "city", "Pune", "abTestGroup", n % 2 == 0 ? "A" : "B"))),
+                new Scenario("POST /v1/api/interests", true, (w, n) -> post("/v1/api/interests",
+                        Map.of("carId", f.carId(), "carOwner", "owner-" + (n % 50)))),
+                new Scenario("POST /v1/api/interests/batch", true, (w, n) -> post("/v1/api/interests/batch",
+                        Map.of("interests", batch))),
+                new Scenario("GET /v1/api/interests", true, (w, n) -> get("/v1/api/interests?limit=20")),
+                new Scenario("GET /v1/api/interests?stream=true", true,
+                        (w, n) -> get("/v1/api/interests?stream=true&limit=100")),
+                new Scenario("POST /v1/api/test-drives", true, (w, n) -> post("/v1/api/test-drives", testDrive(f))),
+                new Scenario("GET /v1/api/test-drives/availability", true,
+                        (w, n) -> get("/v1/api/test-drives/availability?dealerId=bench-dealer&days=7")),
+                new Scenario("GET /v1/api/test-drives", true, (w, n) -> get("/v1/api/test-drives?limit=20")),
+                new Scenario("GET /v1/api/test-drives?stream=true", true,
+                        (w, n) -> get("/v1/api/test-drives?stream=true&limit=100")));
+    }
+
+    private Scenario publicGet(String name, String path) {
+        return new Scenario(name, false, (w, n) -> get(path));
+    }
+
+    // A fresh dealer per booking, so slots never conflict and every request does the full transaction
+    private Map<String, String> testDrive(Fixtures f) {
+        String slot = LocalDate.now().plusDays(1).atTime(LocalTime.of(11, 0)).toString();
+        return Map.of(
+                "carId", f.carId(),
+                "carOwner", "owner-1",
+                "dealerId", "bench-dealer-" + runId + "-" + dealerSequence.incrementAndGet(),
+                "preferredDate", slot);
+    }
+
+    // ==================== Measurement ====================
+
+    private Map<String, Object> measure(Scenario scenario, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> workers = new ArrayList<>(options.concurrency());
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < options.concurrency(); w++) {
+                int worker = w;
+                workers.add(executor.submit(() -> runWorker(scenario, worker, deadline, errors)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        long[] latencies = new long[0];
+        for (Future<long[]> worker : workers) {
+            long[] recorded = worker.get();
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + recorded.length);
+            System.arraycopy(recorded, 0, latencies, offset, recorded.length);
+        }
+        Arrays.sort(latencies);
+
+        Map<String, Object> latencyMillis = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            latencyMillis.put("p" + formatPercentile(percentile), millis(percentile(latencies, percentile)));
+        }
+        latencyMillis.put("max", millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+        latencyMillis.put("mean", millis((long) Arrays.stream(latencies).average().orElse(0)));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", scenario.name());
+        result.put("requests", latencies.length);
+        result.put("errors", errors.get());
+        result.put("throughputPerSecond", latencies.length / elapsedSeconds);
+        result.put("latencyMillis", latencyMillis);
+        return result;
+    }
+
+    private long[] runWorker(Scenario scenario, int worker, long deadline, AtomicLong errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        for (long n = 0; System.nanoTime() < deadline; n++) {
+            HttpRequest.Builder request = scenario.request().apply(worker, n);
+            if (scenario.authenticated()) {
+                authenticated(worker, request);
+            }
+            long start = System.nanoTime();
+            try {
+                if (send(request) >= 400) {
+                    errors.incrementAndGet();
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return response.statusCode();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    // ==================== Requests ====================
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Object body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(body)));
+    }
+
+    private HttpRequest.Builder put(String path, Object body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(json(body)));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(options.timeout());
+    }
+
+    private static HttpRequest.Builder authenticated(int worker, HttpRequest.Builder request) {
+        return request.header("Authorization", "Bearer " + StubTokenVerifier.tokenFor("bench-user-" + worker));
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    // ==================== Results ====================
+
+    private void writeResults(List<Map<String, Object>> results) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("kind", "e2e");
+        report.put("commit", gitCommit());
+        report.put("timestamp", Instant.now().toString());
+        report.put("java", System.getProperty("java.version"));
+        report.put("repository", options.repository());
+        report.put("threads", options.threads());
+        report.put("repositoryLatencyMillis", options.repositoryLatency().toMillis());
+        report.put("repositoryLatencyMode", options.repositoryLatencyMode());
+        report.put("concurrency", options.concurrency());
+        report.put("durationSeconds", options.duration().toSeconds());
+        report.put("results", results);
+
+        Path output = options.output().toAbsolutePath();
+        Files.createDirectories(output.getParent());
+        objectMapper.writeValue(output.toFile(), report);
+        System.out.println("Results written to " + output);
+    }
+
+    private static String gitCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String commit = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? commit : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static double latency(Map<String, Object> result, String percentile) {
+        return (double) ((Map<?, ?>) result.get("latencyMillis")).get(percentile);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+
+    private static Options parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return new Options(
+                duration(values.getOrDefault("duration", "20s")),
+                duration(values.getOrDefault("warmup", "5s")),
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                duration(values.getOrDefault("timeout", "30s")),
+                Pattern.compile(values.getOrDefault("only", "")),
+                Path.of(values.getOrDefault("output", "results/e2e-local.json")),
+                values.getOrDefault("repository", "firestore"),
+                values.getOrDefault("project", "demo-autostacks"),
+                Path.of(values.getOrDefault("resources", "../../resources")),
+                threads(values.getOrDefault("threads", String.join(",", THREAD_MODES))),
+                duration(values.getOrDefault("repository-latency", "0ms")),
+                values.getOrDefault("repository-latency-mode", "async"));
+    }
+
+    private static List<String> threads(String value) {
+        List<String> threads = List.of(value.split(","));
+        for (String mode : threads) {
+            if (!THREAD_MODES.contains(mode)) {
+                throw new IllegalArgumentException("Unsupported thread mode: " + mode + "; expected one of " + THREAD_MODES);
+            }
+        }
+        return threads;
+    }
+
+    // Accepts 500ms, 20s or 2m
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+}
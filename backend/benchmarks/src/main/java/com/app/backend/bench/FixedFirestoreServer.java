@@ -0,0 +1,96 @@
+package com.app.backend.bench;
+
+import com.google.cloud.NoCredentials;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreOptions;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.firestore.v1.Document;
+import com.google.firestore.v1.RunQueryRequest;
+import com.google.firestore.v1.RunQueryResponse;
+import com.google.firestore.v1.Value;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+// Serves fixed documents over the Firestore gRPC API on a local port, so the client decodes
+// real query snapshots without an emulator. Only RunQuery is implemented, and every query on a
+// collection returns all of its documents.
+public final class FixedFirestoreServer implements AutoCloseable {
+
+    private static final String SERVICE = "google.firestore.v1.Firestore";
+
+    private static final MethodDescriptor<RunQueryRequest, RunQueryResponse> RUN_QUERY =
+            MethodDescriptor.<RunQueryRequest, RunQueryResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.SERVER_STREAMING)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE, "RunQuery"))
+                    .setRequestMarshaller(ProtoUtils.marshaller(RunQueryRequest.getDefaultInstance()))
+                    .setResponseMarshaller(ProtoUtils.marshaller(RunQueryResponse.getDefaultInstance()))
+                    .build();
+
+    private final String projectId;
+    private final Map<String, List<Document>> collections = new ConcurrentHashMap<>();
+    private final Server server;
+    private final Firestore firestore;
+
+    public FixedFirestoreServer(String projectId) throws IOException {
+        this.projectId = projectId;
+        this.server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(ServerServiceDefinition.builder(SERVICE)
+                        .addMethod(RUN_QUERY, ServerCalls.asyncServerStreamingCall(this::runQuery))
+                        .build())
+                .build()
+                .start();
+        this.firestore = FirestoreOptions.newBuilder()
+                .setProjectId(projectId)
+                .setHost("localhost:" + server.getPort())
+                .setCredentials(NoCredentials.getInstance())
+                .build()
+                .getService();
+    }
+
+    public void put(String collection, String id, Map<String, Value> fields) {
+        Timestamp now = Timestamp.now();
+        Document document = Document.newBuilder()
+                .setName("projects/" + projectId + "/databases/(default)/documents/" + collection + "/" + id)
+                .putAllFields(fields)
+                .setCreateTime(now.toProto())
+                .setUpdateTime(now.toProto())
+                .build();
+        collections.computeIfAbsent(collection, key -> new CopyOnWriteArrayList<>()).add(document);
+    }
+
+    // Fetched through the client, exactly as a listing query decodes them
+    public List<QueryDocumentSnapshot> query(String collection) throws ExecutionException, InterruptedException {
+        return firestore.collection(collection).get().get().getDocuments();
+    }
+
+    @Override
+    public void close() throws Exception {
+        firestore.close();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void runQuery(RunQueryRequest request, StreamObserver<RunQueryResponse> responses) {
+        String collection = request.getStructuredQuery().getFrom(0).getCollectionId();
+        com.google.protobuf.Timestamp readTime = Timestamp.now().toProto();
+        for (Document document : collections.getOrDefault(collection, List.of())) {
+            responses.onNext(RunQueryResponse.newBuilder().setDocument(document).setReadTime(readTime).build());
+        }
+        responses.onNext(RunQueryResponse.newBuilder().setReadTime(readTime).build());
+        responses.onCompleted();
+    }
+}
@@ -0,0 +1,28 @@
+package com.app.backend.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Creates the -rff result directory, which JMH does not, then runs JMH
+public final class JmhRunner {
+
+    private JmhRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals("-rff")) {
+                createParent(Path.of(args[i + 1]));
+            }
+        }
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    private static void createParent(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.app.backend.bench;
+
+import com.app.backend.repository.ActivityRepository;
+import com.app.backend.repository.InterestRepository;
+import com.app.backend.repository.TestDriveRepository;
+import com.app.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+// Adds a fixed round trip to every repository call that returns a CompletableFuture, so the
+// embedded store stands in for a remote database. "async" completes the future after the
+// delay, as the Firestore client does; "blocking" parks the calling thread for the delay
+// first, as a service that called .get() on every ApiFuture did.
+@Component
+@ConditionalOnProperty(name = "bench.repository-latency.mode")
+public class RepositoryLatency implements BeanPostProcessor {
+
+    private final Duration latency;
+    private final boolean blocking;
+    private final Executor delayed;
+
+    public RepositoryLatency(
+            @Value("${bench.repository-latency.delay}") Duration latency,
+            @Value("${bench.repository-latency.mode}") String mode) {
+        if (!mode.equals("async") && !mode.equals("blocking")) {
+            throw new IllegalArgumentException("Unsupported repository latency mode: " + mode);
+        }
+        this.latency = latency;
+        this.blocking = mode.equals("blocking");
+        this.delayed = CompletableFuture.delayedExecutor(latency.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof UserRepository || bean instanceof InterestRepository
+                || bean instanceof TestDriveRepository || bean instanceof ActivityRepository)) {
+            return bean;
+        }
+        Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(bean.getClass());
+        return Proxy.newProxyInstance(bean.getClass().getClassLoader(), interfaces,
+                (proxy, method, args) -> invoke(bean, method, args));
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        if (method.getReturnType() != CompletableFuture.class) {
+            return call(target, method, args);
+        }
+        if (blocking) {
+            Thread.sleep(latency);
+            return call(target, method, args);
+        }
+        // Completes with the same value or failure, on a timer thread once the delay has passed
+        return ((CompletableFuture<?>) call(target, method, args)).whenCompleteAsync((value, e) -> { }, delayed);
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.app.backend.bench;
+
+import com.app.backend.auth.TokenVerifier;
+import com.app.backend.auth.VerifiedToken;
+import com.app.backend.exceptions.UnauthorizedException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+// Accepts "bench:<uid>" as the ID token of <uid>, so load tests need no Firebase Auth project
+@Component
+@ConditionalOnProperty(name = "auth.token-verifier", havingValue = "stub")
+public class StubTokenVerifier implements TokenVerifier {
+
+    public static final String TOKEN_PREFIX = "bench:";
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+
+    public static String tokenFor(String uid) {
+        return TOKEN_PREFIX + uid;
+    }
+
+    @Override
+    public VerifiedToken verify(String idToken) {
+        if (!idToken.startsWith(TOKEN_PREFIX) || idToken.length() == TOKEN_PREFIX.length()) {
+            throw new UnauthorizedException("Not a benchmark token");
+        }
+        String uid = idToken.substring(TOKEN_PREFIX.length());
+        String email = uid + "@bench.local";
+        long expiresAt = Instant.now().plus(TOKEN_LIFETIME).getEpochSecond();
+        return new VerifiedToken(uid, email, uid, null, true, expiresAt,
+                Map.of("sub", uid, "email", email, "exp", expiresAt));
+    }
+}
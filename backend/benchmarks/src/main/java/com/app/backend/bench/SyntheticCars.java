@@ -0,0 +1,55 @@
+package com.app.backend.bench;
+
+import com.app.backend.catalog.Car;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Deterministic car entries in the CMS shape, for benchmarks that need a catalog larger than car.json
+public final class SyntheticCars {
+
+    public static final String[] BRANDS = {"Maruti Suzuki", "Hyundai", "Tata", "Mahindra", "Kia", "Toyota", "Honda", "MG"};
+    public static final String[] MODELS = {"Swift", "Creta", "Nexon", "XUV700", "Seltos", "Innova", "City", "Hector"};
+    public static final String[] CITIES = {"Mumbai", "Delhi", "Bengaluru", "Pune", "Chennai", "Hyderabad", "Kolkata", "Jaipur"};
+    private static final String[] FUEL_TYPES = {"Petrol", "Diesel", "CNG", "Electric"};
+    private static final String[] BODY_TYPES = {"Hatchback", "Sedan", "SUV", "MUV"};
+    private static final String[] TRANSMISSIONS = {"Manual", "Automatic"};
+    private static final String[] VARIANTS = {"LXi", "VXi", "ZXi", "ZXi Plus", "Signature"};
+
+    private SyntheticCars() {
+    }
+
+    public static List<Car> generate(int count, long seed) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Random random = new Random(seed);
+        List<Car> cars = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int make = random.nextInt(BRANDS.length);
+            String variant = VARIANTS[random.nextInt(VARIANTS.length)];
+            String title = BRANDS[make] + " " + MODELS[make] + " " + variant;
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("uid", "car-" + i);
+            entry.put("slug", title.toLowerCase().replace(' ', '-') + "-" + i);
+            entry.put("title", title);
+            entry.put("brand", BRANDS[make]);
+            entry.put("model", MODELS[make]);
+            entry.put("variant", variant);
+            entry.put("year", 2015 + random.nextInt(10));
+            entry.put("price", 400_000L + random.nextInt(40) * 50_000L);
+            entry.put("fuel_type", FUEL_TYPES[random.nextInt(FUEL_TYPES.length)]);
+            entry.put("body_type", BODY_TYPES[random.nextInt(BODY_TYPES.length)]);
+            entry.put("transmission", TRANSMISSIONS[random.nextInt(TRANSMISSIONS.length)]);
+            entry.put("city", CITIES[random.nextInt(CITIES.length)]);
+            entry.put("short_description", "Well maintained " + title + " with service history");
+            entry.put("description", "The " + title + " offers a comfortable ride, good mileage and "
+                    + "a spacious cabin. Single owner, insurance valid, all services at the authorised dealer.");
+            cars.add(objectMapper.convertValue(entry, Car.class));
+        }
+        return cars;
+    }
+}
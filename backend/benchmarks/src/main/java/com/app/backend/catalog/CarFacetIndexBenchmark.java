@@ -0,0 +1,59 @@
+package com.app.backend.catalog;
+
+import com.app.backend.bench.SyntheticCars;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Faceted search as served by GET /v1/api/cars
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CarFacetIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    public int cars;
+
+    private CarFacetIndex index;
+    private CarFacetIndex.Query unfiltered;
+    private CarFacetIndex.Query filtered;
+
+    @Setup
+    public void setUp() {
+        index = new CarFacetIndex(new CarCatalog(SyntheticCars.generate(cars, 42)));
+        unfiltered = new CarFacetIndex.Query(Map.of(), null, null);
+
+        Map<CarFacet, Collection<String>> filters = new EnumMap<>(CarFacet.class);
+        filters.put(CarFacet.BRAND, List.of("Hyundai", "Kia"));
+        filters.put(CarFacet.FUEL_TYPE, List.of("Petrol"));
+        filters.put(CarFacet.CITY, List.of("Pune"));
+        filtered = new CarFacetIndex.Query(filters, 600_000L, 1_500_000L);
+    }
+
+    @Benchmark
+    public CarFacetIndex.Result unfiltered() {
+        return index.search(unfiltered, CarFacetIndex.Sort.RELEVANCE, 0, 20);
+    }
+
+    @Benchmark
+    public CarFacetIndex.Result filteredByPrice() {
+        return index.search(filtered, CarFacetIndex.Sort.PRICE_ASC, 0, 20);
+    }
+}
@@ -0,0 +1,85 @@
+package com.app.backend.dtos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Envelope serialization with the ObjectMapper defaults Spring Boot applies
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<UserProfileResponse> user;
+    private ApiResponse<List<InterestResponse>> interestPage;
+    private ApiResponse<Void> error;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.now();
+
+        user = ApiResponse.success(UserProfileResponse.builder()
+                .uid("user-1")
+                .email("asha@example.com")
+                .name("Asha Rao")
+                .city("Pune")
+                .attributes(Map.of("budget", "10-15L"))
+                .audiences(List.of("suv-intenders"))
+                .abTestGroup("B")
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        List<InterestResponse> interests = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            interests.add(InterestResponse.builder()
+                    .id("interest-" + i)
+                    .userId("user-1")
+                    .carId("car-" + i)
+                    .carOwner("owner-" + (i % 7))
+                    .createdAt(now.minusMinutes(i))
+                    .build());
+        }
+        interestPage = ApiResponse.success(interests, "eyJjcmVhdGVkQXQiOjE3MDAwMDAwMDB9");
+
+        error = ApiResponse.error("User not found: user-1", "NOT_FOUND");
+    }
+
+    @Benchmark
+    public byte[] userProfile() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] interestPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(interestPage);
+    }
+
+    @Benchmark
+    public byte[] error() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
@@ -0,0 +1,58 @@
+package com.app.backend.encoding;
+
+import com.app.backend.bench.SyntheticCars;
+import com.app.backend.catalog.Car;
+import com.app.backend.dtos.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Cost of a cache miss on the pre-encoded endpoints, against plain serialization
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEncoderBenchmark {
+
+    @Param({"1", "100"})
+    public int cars;
+
+    private ObjectMapper objectMapper;
+    private ResponseEncoder responseEncoder;
+    private ApiResponse<List<Car>> body;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseEncoder = new ResponseEncoder(objectMapper, new ResponseMetrics(new SimpleMeterRegistry()),
+                DataSize.ofKilobytes(2));
+        body = ApiResponse.success(SyntheticCars.generate(cars, 42));
+    }
+
+    @Benchmark
+    public byte[] serializeOnly() throws Exception {
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public EncodedResponse encode() {
+        return responseEncoder.encode("/v1/api/taxonomies/{taxonomyUid}/terms/{termUid}/cars", body);
+    }
+}
@@ -0,0 +1,79 @@
+package com.app.backend.filters;
+
+import com.app.backend.auth.VerifiedTokenCache;
+import com.app.backend.bench.StubTokenVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+// Auth filter overhead per request: public paths, a cached bearer token and a missing header
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FirebaseAuthFilterBenchmark {
+
+    private static final String TOKEN = StubTokenVerifier.tokenFor("bench-user");
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({
+            "/v1/api/cars",
+            "/v1/api/taxonomies/cars_india/terms/swift/cars",
+            "/v1/api/interests",
+            "/v1/api/interests:anonymous"
+    })
+    public String request;
+
+    private FirebaseAuthFilter filter;
+    private String path;
+    private boolean authenticated;
+
+    @Setup
+    public void setUp() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new FirebaseAuthFilter(
+                new ObjectMapper(),
+                new StubTokenVerifier(),
+                new VerifiedTokenCache(true, 10_000, meterRegistry),
+                meterRegistry);
+
+        int anonymous = request.indexOf(':');
+        path = anonymous < 0 ? request : request.substring(0, anonymous);
+        authenticated = anonymous < 0;
+
+        // Verify once so the measured requests hit the token cache
+        filter.doFilter(newRequest(), new MockHttpServletResponse(), NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public int doFilter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(newRequest(), response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", path);
+        if (authenticated) {
+            servletRequest.addHeader("Authorization", "Bearer " + TOKEN);
+        }
+        return servletRequest;
+    }
+}
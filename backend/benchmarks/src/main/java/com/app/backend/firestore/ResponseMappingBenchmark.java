@@ -0,0 +1,177 @@
+package com.app.backend.firestore;
+
+import com.app.backend.dtos.InterestResponse;
+import com.app.backend.dtos.TestDriveResponse;
+import com.app.backend.dtos.UserProfileResponse;
+import com.app.backend.bench.FixedFirestoreServer;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.firestore.v1.ArrayValue;
+import com.google.firestore.v1.MapValue;
+import com.google.firestore.v1.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Firestore document -> response DTO mapping, as run for every document a query returns.
+// Snapshots are decoded by the Firestore client from a FixedFirestoreServer query response.
+// The *FromData variants are the previous getData() + cast mapping, kept as the baseline;
+// run with -prof gc to compare gc.alloc.rate.norm (bytes per mapped document).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private FixedFirestoreServer server;
+    private Timestamp timestamp;
+    private DocumentSnapshot user;
+    private DocumentSnapshot interest;
+    private DocumentSnapshot testDrive;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new FixedFirestoreServer("demo-autostacks");
+        timestamp = Timestamp.now();
+        Value createdAt = Value.newBuilder().setTimestampValue(timestamp.toProto()).build();
+
+        server.put("users", "user-1", Map.of(
+                "email", string("asha@example.com"),
+                "name", string("Asha Rao"),
+                "city", string("Pune"),
+                "attributes", Value.newBuilder().setMapValue(MapValue.newBuilder()
+                        .putFields("budget", string("10-15L"))
+                        .putFields("fuel", string("petrol"))).build(),
+                "audiences", Value.newBuilder().setArrayValue(ArrayValue.newBuilder()
+                        .addValues(string("suv-intenders"))
+                        .addValues(string("first-time-buyers"))).build(),
+                "abTestGroup", string("B"),
+                "createdAt", createdAt,
+                "updatedAt", createdAt));
+        server.put("interests", "interest-1", Map.of(
+                "userId", string("user-1"),
+                "carId", string("blt0f3c2e1d8a9b7c65"),
+                "carOwner", string("owner-1"),
+                "createdAt", createdAt));
+        server.put("test_drives", "test-drive-1", Map.of(
+                "userId", string("user-1"),
+                "carId", string("blt0f3c2e1d8a9b7c65"),
+                "carOwner", string("owner-1"),
+                "dealerId", string("dealer-42"),
+                "preferredDate", createdAt,
+                "status", string("requested"),
+                "createdAt", createdAt));
+
+        user = server.query("users").get(0);
+        interest = server.query("interests").get(0);
+        testDrive = server.query("test_drives").get(0);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Benchmark
+    public UserProfileResponse userProfile() {
+        return DocumentMapper.toUserProfile(user);
+    }
+
+    @Benchmark
+    public UserProfileResponse userProfileFromData() {
+        return userProfileFromData(user.getId(), user.getData());
+    }
+
+    @Benchmark
+    public InterestResponse interest() {
+        return DocumentMapper.toInterest(interest);
+    }
+
+    @Benchmark
+    public InterestResponse interestFromData() {
+        return interestFromData(interest.getId(), interest.getData());
+    }
+
+    @Benchmark
+    public TestDriveResponse testDrive() {
+        return DocumentMapper.toTestDrive(testDrive);
+    }
+
+    @Benchmark
+    public TestDriveResponse testDriveFromData() {
+        return testDriveFromData(testDrive.getId(), testDrive.getData());
+    }
+
+    @Benchmark
+    public LocalDateTime toLocalDateTime() {
+        return DocumentMapper.toLocalDateTime(timestamp);
+    }
+
+    private static Value string(String value) {
+        return Value.newBuilder().setStringValue(value).build();
+    }
+
+    // ==================== Previous map-based mapping ====================
+
+    @SuppressWarnings("unchecked")
+    private static UserProfileResponse userProfileFromData(String uid, Map<String, Object> data) {
+        return UserProfileResponse.builder()
+                .uid(uid)
+                .email((String) data.get("email"))
+                .name((String) data.get("name"))
+                .city((String) data.get("city"))
+                .attributes((Map<String, Object>) data.get("attributes"))
+                .audiences((List<String>) data.get("audiences"))
+                .abTestGroup((String) data.get("abTestGroup"))
+                .createdAt(localDateTime(data.get("createdAt")))
+                .updatedAt(localDateTime(data.get("updatedAt")))
+                .build();
+    }
+
+    private static InterestResponse interestFromData(String id, Map<String, Object> data) {
+        return InterestResponse.builder()
+                .id(id)
+                .userId((String) data.get("userId"))
+                .carId((String) data.get("carId"))
+                .carOwner((String) data.get("carOwner"))
+                .createdAt(localDateTime(data.get("createdAt")))
+                .build();
+    }
+
+    private static TestDriveResponse testDriveFromData(String id, Map<String, Object> data) {
+        return TestDriveResponse.builder()
+                .id(id)
+                .userId((String) data.get("userId"))
+                .carId((String) data.get("carId"))
+                .carOwner((String) data.get("carOwner"))
+                .dealerId((String) data.get("dealerId"))
+                .preferredDate(localDateTime(data.get("preferredDate")))
+                .status((String) data.get("status"))
+                .createdAt(localDateTime(data.get("createdAt")))
+                .build();
+    }
+
+    private static LocalDateTime localDateTime(Object timestamp) {
+        if (timestamp instanceof Timestamp ts) {
+            return LocalDateTime.ofInstant(Instant.ofEpochSecond(ts.getSeconds(), ts.getNanos()), ZoneId.systemDefault());
+        }
+        return null;
+    }
+}
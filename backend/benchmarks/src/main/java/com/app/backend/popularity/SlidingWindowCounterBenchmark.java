@@ -0,0 +1,62 @@
+package com.app.backend.popularity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Recording on the interest and test drive paths, and the trending query
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlidingWindowCounterBenchmark {
+
+    private static final int KEYS = 10_000;
+    private static final int BUCKETS = 168;
+
+    private SlidingWindowCounter counter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        counter = new SlidingWindowCounter(BUCKETS, KEYS);
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "car-" + i;
+        }
+        // A week of history so top() merges full rings
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            for (int i = 0; i < KEYS; i++) {
+                if ((i + bucket) % 3 == 0) {
+                    counter.increment(keys[i]);
+                }
+            }
+            counter.rotate();
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void increment() {
+        counter.increment(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public List<PopularityCount> top10() {
+        return counter.top(10);
+    }
+}
@@ -0,0 +1,49 @@
+package com.app.backend.search;
+
+import com.app.backend.bench.SyntheticCars;
+import com.app.backend.catalog.Car;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BM25 ranking as served by GET /v1/api/search
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvertedIndexBenchmark {
+
+    private static final int DOCUMENTS = 50_000;
+
+    private InvertedIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new InvertedIndex();
+        for (Car car : SyntheticCars.generate(DOCUMENTS, 42)) {
+            index.put(car.id(), car.title(), car.description());
+        }
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> twoTerms() {
+        return index.search("hyundai creta", false, 10, key -> true);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> prefixLastTerm() {
+        return index.search("maruti sw", true, 10, key -> true);
+    }
+}
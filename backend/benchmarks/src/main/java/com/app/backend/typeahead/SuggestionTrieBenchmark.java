@@ -0,0 +1,53 @@
+package com.app.backend.typeahead;
+
+import com.app.backend.bench.SyntheticCars;
+import com.app.backend.catalog.Car;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Prefix completion as served by GET /v1/api/typeahead
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestionTrieBenchmark {
+
+    private static final int SUGGESTIONS = 100_000;
+
+    @Param({"h", "hyundai cr", "maruti suzuki swift zxi"})
+    public String prefix;
+
+    private SuggestionTrie trie;
+    private final int[] out = new int[SuggestionTrie.MAX_RESULTS];
+
+    @Setup
+    public void setUp() {
+        List<Car> cars = SyntheticCars.generate(SUGGESTIONS, 42);
+        int[] weights = new int[cars.size()];
+        SuggestionTrie.Builder builder = new SuggestionTrie.Builder(weights);
+        for (int i = 0; i < cars.size(); i++) {
+            weights[i] = cars.get(i).year();
+            builder.add(cars.get(i).title() + " " + i, i);
+        }
+        trie = builder.build();
+    }
+
+    @Benchmark
+    public int complete() {
+        return trie.complete(prefix, out);
+    }
+}
@@ -0,0 +1,21 @@
+package com.app.backend.auth;
+
+import com.app.backend.exceptions.UnauthorizedException;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "auth.token-verifier", havingValue = "firebase-admin", matchIfMissing = true)
+public class FirebaseAdminTokenVerifier implements TokenVerifier {
+
+    @Override
+    public VerifiedToken verify(String idToken) {
+        try {
+            return VerifiedToken.fromFirebaseToken(FirebaseAuth.getInstance().verifyIdToken(idToken));
+        } catch (FirebaseAuthException e) {
+            throw new UnauthorizedException(e.getMessage(), e);
+        }
+    }
+}
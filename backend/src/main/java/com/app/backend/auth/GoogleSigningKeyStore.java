@@ -0,0 +1,126 @@
+package com.app.backend.auth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.token-verifier", havingValue = "local")
+public class GoogleSigningKeyStore implements SigningKeyStore {
+
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+    private static final long MIN_REFRESH_SECONDS = 60;
+    private static final long DEFAULT_REFRESH_SECONDS = 3600;
+    private static final long RETRY_SECONDS = 30;
+
+    private final URI certificatesUri;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+
+    public GoogleSigningKeyStore(
+            @Value("${auth.signing-keys.url:https://www.googleapis.com/robot/v1/metadata/x509/securetoken@system.gserviceaccount.com}") String certificatesUrl,
+            ObjectMapper objectMapper) {
+        this.certificatesUri = URI.create(certificatesUrl);
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "signing-key-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Fetches in the background so startup neither blocks on nor fails with the certificates
+    // endpoint; a failed fetch is retried every RETRY_SECONDS. Until the first fetch succeeds
+    // every token is rejected as signed with an unknown key.
+    @PostConstruct
+    public void initialize() {
+        scheduler.execute(this::refresh);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public PublicKey getKey(String keyId) {
+        return keys.get(keyId);
+    }
+
+    private void refresh() {
+        long nextRefreshSeconds;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(certificatesUri)
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Unexpected status " + response.statusCode());
+            }
+
+            Map<String, String> certificates = objectMapper.readValue(response.body(), new TypeReference<>() {});
+            CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            Map<String, PublicKey> refreshed = new HashMap<>();
+            for (Map.Entry<String, String> entry : certificates.entrySet()) {
+                X509Certificate certificate = (X509Certificate) factory.generateCertificate(
+                        new ByteArrayInputStream(entry.getValue().getBytes(StandardCharsets.US_ASCII)));
+                refreshed.put(entry.getKey(), certificate.getPublicKey());
+            }
+            keys = Map.copyOf(refreshed);
+
+            nextRefreshSeconds = Math.max(MIN_REFRESH_SECONDS, maxAge(response) - MIN_REFRESH_SECONDS);
+            log.info("Signing keys refreshed: count={}, nextRefreshSeconds={}", refreshed.size(), nextRefreshSeconds);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.error("Failed to refresh signing keys, retrying in {}s", RETRY_SECONDS, e);
+            nextRefreshSeconds = RETRY_SECONDS;
+        }
+
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::refresh, nextRefreshSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    private long maxAge(HttpResponse<?> response) {
+        return response.headers()
+                .firstValue("Cache-Control")
+                .map(MAX_AGE_PATTERN::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Long.parseLong(matcher.group(1)))
+                .orElse(DEFAULT_REFRESH_SECONDS);
+    }
+}
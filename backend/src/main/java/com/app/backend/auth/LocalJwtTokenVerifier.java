@@ -0,0 +1,133 @@
+package com.app.backend.auth;
+
+import com.app.backend.exceptions.UnauthorizedException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.ImplFirebaseTrampolines;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Map;
+
+@Slf4j
+@Component
+@DependsOn("firebaseConfig")
+@ConditionalOnProperty(name = "auth.token-verifier", havingValue = "local")
+public class LocalJwtTokenVerifier implements TokenVerifier {
+
+    private static final String ISSUER_PREFIX = "https://securetoken.google.com/";
+    private static final long CLOCK_SKEW_SECONDS = 60;
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {};
+
+    private final SigningKeyStore keyStore;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final String projectId;
+    private final String expectedIssuer;
+
+    @Autowired
+    public LocalJwtTokenVerifier(
+            SigningKeyStore keyStore,
+            ObjectMapper objectMapper,
+            @Value("${firebase.project-id:}") String projectId) {
+        this(keyStore, objectMapper, Clock.systemUTC(),
+                projectId.isBlank() && !FirebaseApp.getApps().isEmpty()
+                        ? ImplFirebaseTrampolines.getProjectId(FirebaseApp.getInstance())
+                        : projectId);
+    }
+
+    LocalJwtTokenVerifier(SigningKeyStore keyStore, ObjectMapper objectMapper, Clock clock, String projectId) {
+        if (projectId == null || projectId.isBlank()) {
+            throw new IllegalStateException("Firebase project ID is required for local token verification");
+        }
+        this.keyStore = keyStore;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.projectId = projectId;
+        this.expectedIssuer = ISSUER_PREFIX + projectId;
+        log.info("Local token verifier initialized: projectId={}", projectId);
+    }
+
+    @Override
+    public VerifiedToken verify(String idToken) {
+        int firstDot = idToken.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : idToken.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot <= firstDot + 1 || secondDot == idToken.length() - 1
+                || idToken.indexOf('.', secondDot + 1) >= 0) {
+            throw new UnauthorizedException("Malformed ID token");
+        }
+
+        Map<String, Object> header = decodeJson(idToken, 0, firstDot);
+        Map<String, Object> claims = decodeJson(idToken, firstDot + 1, secondDot);
+
+        if (!"RS256".equals(header.get("alg"))) {
+            throw new UnauthorizedException("Unsupported token algorithm: " + header.get("alg"));
+        }
+        PublicKey key = header.get("kid") instanceof String kid ? keyStore.getKey(kid) : null;
+        if (key == null) {
+            throw new UnauthorizedException("Unknown token signing key: " + header.get("kid"));
+        }
+        verifySignature(idToken, secondDot, key);
+        verifyClaims(claims);
+
+        return VerifiedToken.fromClaims(claims);
+    }
+
+    private void verifySignature(String idToken, int signatureStart, PublicKey key) {
+        try {
+            Signature verifier = Signature.getInstance("SHA256withRSA");
+            verifier.initVerify(key);
+            verifier.update(idToken.substring(0, signatureStart).getBytes(StandardCharsets.US_ASCII));
+            byte[] signature = Base64.getUrlDecoder().decode(idToken.substring(signatureStart + 1));
+            if (!verifier.verify(signature)) {
+                throw new UnauthorizedException("Invalid token signature");
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new UnauthorizedException("Invalid token signature", e);
+        }
+    }
+
+    private void verifyClaims(Map<String, Object> claims) {
+        long now = clock.instant().getEpochSecond();
+
+        if (!expectedIssuer.equals(claims.get("iss"))) {
+            throw new UnauthorizedException("Invalid token issuer: " + claims.get("iss"));
+        }
+        if (!projectId.equals(claims.get("aud"))) {
+            throw new UnauthorizedException("Invalid token audience: " + claims.get("aud"));
+        }
+        if (!(claims.get("sub") instanceof String sub) || sub.isEmpty() || sub.length() > 128) {
+            throw new UnauthorizedException("Invalid token subject");
+        }
+        if (!(claims.get("exp") instanceof Number exp) || exp.longValue() + CLOCK_SKEW_SECONDS <= now) {
+            throw new UnauthorizedException("Token has expired");
+        }
+        if (!(claims.get("iat") instanceof Number iat) || iat.longValue() - CLOCK_SKEW_SECONDS > now) {
+            throw new UnauthorizedException("Token issued in the future");
+        }
+        if (claims.get("auth_time") instanceof Number authTime && authTime.longValue() - CLOCK_SKEW_SECONDS > now) {
+            throw new UnauthorizedException("Token authenticated in the future");
+        }
+    }
+
+    private Map<String, Object> decodeJson(String idToken, int start, int end) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(idToken.substring(start, end));
+            return objectMapper.readValue(json, CLAIMS_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new UnauthorizedException("Malformed ID token", e);
+        }
+    }
+}
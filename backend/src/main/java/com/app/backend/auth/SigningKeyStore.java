@@ -0,0 +1,12 @@
+package com.app.backend.auth;
+
+import java.security.PublicKey;
+
+public interface SigningKeyStore {
+
+    /**
+     * Returns the public key for the given {@code kid} header, or {@code null} if it is unknown.
+     * Implementations must not perform network I/O on the calling thread.
+     */
+    PublicKey getKey(String keyId);
+}
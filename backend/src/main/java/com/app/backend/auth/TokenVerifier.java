@@ -0,0 +1,12 @@
+package com.app.backend.auth;
+
+public interface TokenVerifier {
+
+    /**
+     * Verifies a Firebase ID token and returns its decoded claims.
+     *
+     * @throws com.app.backend.exceptions.UnauthorizedException if the token is malformed,
+     *         badly signed, expired or issued for another project
+     */
+    VerifiedToken verify(String idToken);
+}
@@ -0,0 +1,42 @@
+package com.app.backend.auth;
+
+import com.google.firebase.auth.FirebaseToken;
+
+import java.util.Map;
+
+public record VerifiedToken(
+        String uid,
+        String email,
+        String name,
+        String picture,
+        boolean emailVerified,
+        long expiresAtEpochSeconds,
+        Map<String, Object> claims) {
+
+    public static VerifiedToken fromClaims(Map<String, Object> claims) {
+        return new VerifiedToken(
+                (String) claims.get("sub"),
+                (String) claims.get("email"),
+                (String) claims.get("name"),
+                (String) claims.get("picture"),
+                Boolean.TRUE.equals(claims.get("email_verified")),
+                toLong(claims.get("exp")),
+                Map.copyOf(claims));
+    }
+
+    public static VerifiedToken fromFirebaseToken(FirebaseToken token) {
+        Map<String, Object> claims = token.getClaims();
+        return new VerifiedToken(
+                token.getUid(),
+                token.getEmail(),
+                token.getName(),
+                token.getPicture(),
+                token.isEmailVerified(),
+                toLong(claims.get("exp")),
+                claims);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
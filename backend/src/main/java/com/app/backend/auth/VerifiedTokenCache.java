@@ -0,0 +1,163 @@
+package com.app.backend.auth;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// Verified tokens keyed by the SHA-256 of the raw token. Entries are split over STRIPES
+// access-ordered maps, each with its own lock and an equal share of maxEntries, so concurrent
+// requests rarely contend; eviction is LRU within a stripe. Digests are pooled rather than
+// thread-local, since virtual threads are not reused across requests.
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final int STRIPES = 16;
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Map<String, CachedToken>[] stripes;
+    private final BlockingQueue<MessageDigest> digests =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public VerifiedTokenCache(
+            @Value("${auth.token-cache.enabled:true}") boolean enabled,
+            @Value("${auth.token-cache.max-entries:10000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.stripes = newStripes(Math.max(1, (maxEntries + STRIPES - 1) / STRIPES));
+
+        FunctionCounter.builder("auth.token.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.token.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.token.cache.expirations", expirations, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("auth.token.cache.size", this, VerifiedTokenCache::size)
+                .register(meterRegistry);
+
+        log.info("Verified token cache initialized: enabled={}, maxEntries={}", enabled, maxEntries);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public VerifiedToken get(String idToken) {
+        if (!enabled) {
+            return null;
+        }
+        byte[] hashed = hash(idToken);
+        String key = key(hashed);
+        long now = System.currentTimeMillis();
+
+        Map<String, CachedToken> entries = stripe(hashed);
+        synchronized (entries) {
+            CachedToken cached = entries.get(key);
+            if (cached == null) {
+                misses.increment();
+                return null;
+            }
+            if (cached.expiresAtMillis() <= now) {
+                entries.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return cached.token();
+        }
+    }
+
+    public void put(String idToken, VerifiedToken token) {
+        if (!enabled) {
+            return;
+        }
+        long expiresAtMillis = token.expiresAtEpochSeconds() * 1000L;
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        byte[] hashed = hash(idToken);
+        String key = key(hashed);
+
+        Map<String, CachedToken> entries = stripe(hashed);
+        synchronized (entries) {
+            entries.put(key, new CachedToken(token, expiresAtMillis));
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, CachedToken> entries : stripes) {
+            synchronized (entries) {
+                size += entries.size();
+            }
+        }
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, CachedToken>[] newStripes(int maxEntriesPerStripe) {
+        Map<String, CachedToken>[] stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedToken> eldest) {
+                    return size() > maxEntriesPerStripe;
+                }
+            };
+        }
+        return stripes;
+    }
+
+    // The digest bytes are uniform, so the first one picks the stripe
+    private Map<String, CachedToken> stripe(byte[] hashed) {
+        return stripes[hashed[0] & (STRIPES - 1)];
+    }
+
+    private byte[] hash(String idToken) {
+        MessageDigest digest = digests.poll();
+        if (digest == null) {
+            digest = newDigest();
+        }
+        // digest() resets the instance, so it can go straight back to the pool
+        byte[] hashed = digest.digest(idToken.getBytes(StandardCharsets.US_ASCII));
+        digests.offer(digest);
+        return hashed;
+    }
+
+    private static String key(byte[] hashed) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedToken(VerifiedToken token, long expiresAtMillis) {
+    }
+}
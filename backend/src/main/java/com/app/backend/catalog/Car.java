@@ -0,0 +1,68 @@
+package com.app.backend.catalog;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+import java.util.Map;
+
+// Immutable car entry in the shape of the CMS "car" content type (resources/entries/car.json)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Car(
+        String uid,
+        String slug,
+        String title,
+        List<TaxonomyRef> taxonomies,
+        String brand,
+        String model,
+        String variant,
+        Integer year,
+        Long price,
+        Long exShowroomPrice,
+        String fuelType,
+        String transmission,
+        String bodyType,
+        Integer seatingCapacity,
+        String mileage,
+        String engineCapacity,
+        String maxPower,
+        String maxTorque,
+        String description,
+        String shortDescription,
+        List<String> colors,
+        List<String> features,
+        List<String> safetyFeatures,
+        String city,
+        boolean isNew,
+        boolean isFeatured,
+        String carType,
+        String dealerName,
+        String dealerContact,
+        Integer odometerReading,
+        String ownership,
+        Integer registrationYear,
+        String insuranceValidTill,
+        Map<String, Object> specifications) {
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record TaxonomyRef(String taxonomyUid, String termUid) {
+    }
+
+    public Car {
+        taxonomies = taxonomies != null ? List.copyOf(taxonomies) : List.of();
+        colors = colors != null ? List.copyOf(colors) : List.of();
+        features = features != null ? List.copyOf(features) : List.of();
+        safetyFeatures = safetyFeatures != null ? List.copyOf(safetyFeatures) : List.of();
+        specifications = specifications != null ? Map.copyOf(specifications) : Map.of();
+    }
+
+    // Seed exports carry no uid; the slug is the stable identifier in that case
+    public String id() {
+        return uid != null ? uid : slug;
+    }
+}
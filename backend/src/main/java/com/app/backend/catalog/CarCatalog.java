@@ -0,0 +1,52 @@
+package com.app.backend.catalog;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Immutable snapshot of the catalog. Cars are held in a dense array so that secondary
+// indexes can refer to them by position; uid and slug both resolve through one hash map.
+public final class CarCatalog {
+
+    public static final CarCatalog EMPTY = new CarCatalog(List.of());
+
+    private final Car[] cars;
+    private final Map<String, Integer> positionsById;
+
+    public CarCatalog(List<Car> entries) {
+        this.cars = entries.toArray(Car[]::new);
+        Map<String, Integer> positions = new HashMap<>(cars.length * 4 / 3 + 1);
+        for (int i = 0; i < cars.length; i++) {
+            if (cars[i].uid() != null) {
+                positions.put(cars[i].uid(), i);
+            }
+            if (cars[i].slug() != null) {
+                positions.putIfAbsent(cars[i].slug(), i);
+            }
+        }
+        this.positionsById = Map.copyOf(positions);
+    }
+
+    public int size() {
+        return cars.length;
+    }
+
+    public Car get(int position) {
+        return cars[position];
+    }
+
+    // Resolves a uid or slug to the car's position, or -1 when unknown
+    public int positionOf(String id) {
+        Integer position = positionsById.get(id);
+        return position != null ? position : -1;
+    }
+
+    public Car find(String id) {
+        int position = positionOf(id);
+        return position >= 0 ? cars[position] : null;
+    }
+
+    public List<Car> cars() {
+        return List.of(cars);
+    }
+}
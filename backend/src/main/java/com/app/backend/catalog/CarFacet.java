@@ -0,0 +1,28 @@
+package com.app.backend.catalog;
+
+import java.util.function.Function;
+
+// Filterable car attributes; the param name doubles as the query parameter and response key
+public enum CarFacet {
+    BRAND("brand", Car::brand),
+    FUEL_TYPE("fuel_type", Car::fuelType),
+    BODY_TYPE("body_type", Car::bodyType),
+    TRANSMISSION("transmission", Car::transmission),
+    CITY("city", Car::city);
+
+    private final String param;
+    private final Function<Car, String> extractor;
+
+    CarFacet(String param, Function<Car, String> extractor) {
+        this.param = param;
+        this.extractor = extractor;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    String valueOf(Car car) {
+        return extractor.apply(car);
+    }
+}
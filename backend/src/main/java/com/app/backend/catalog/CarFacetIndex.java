@@ -0,0 +1,215 @@
+package com.app.backend.catalog;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Immutable facet index over one catalog snapshot. Every facet value owns a bitset (long words,
+// one bit per catalog position) and prices are kept as a sorted int[] with the matching
+// positions, so a query is a handful of word-wise ANDs plus two binary searches.
+public final class CarFacetIndex {
+
+    public enum Sort {
+        RELEVANCE, PRICE_ASC, PRICE_DESC
+    }
+
+    public record Query(Map<CarFacet, Collection<String>> filters, Long minPrice, Long maxPrice) {
+    }
+
+    public record Result(int total, int[] positions, Map<String, Map<String, Integer>> facetCounts) {
+    }
+
+    private final int size;
+    private final int words;
+    private final long[] all;
+    private final Map<CarFacet, Map<String, long[]>> bitmaps = new EnumMap<>(CarFacet.class);
+    private final Map<CarFacet, Map<String, String>> labels = new EnumMap<>(CarFacet.class);
+
+    // Priced positions come first, ordered by price; cars without a price follow
+    private final int[] sortedPrices;
+    private final int[] positionsByPrice;
+
+    public CarFacetIndex(CarCatalog catalog) {
+        this.size = catalog.size();
+        this.words = (size + 63) >>> 6;
+        this.all = new long[words];
+        for (int i = 0; i < size; i++) {
+            all[i >>> 6] |= 1L << i;
+        }
+
+        for (CarFacet facet : CarFacet.values()) {
+            Map<String, long[]> facetBitmaps = new HashMap<>();
+            Map<String, String> facetLabels = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                String value = facet.valueOf(catalog.get(i));
+                if (value == null || value.isBlank()) {
+                    continue;
+                }
+                String key = normalize(value);
+                facetLabels.putIfAbsent(key, value);
+                facetBitmaps.computeIfAbsent(key, k -> new long[words])[i >>> 6] |= 1L << i;
+            }
+            bitmaps.put(facet, facetBitmaps);
+            labels.put(facet, facetLabels);
+        }
+
+        long[] keyed = new long[size];
+        int priced = 0;
+        for (int i = 0; i < size; i++) {
+            Long price = catalog.get(i).price();
+            if (price != null) {
+                // Price in the high half, position in the low half: one primitive sort
+                keyed[priced++] = (long) clamp(price) << 32 | i;
+            }
+        }
+        Arrays.sort(keyed, 0, priced);
+        this.sortedPrices = new int[priced];
+        this.positionsByPrice = new int[size];
+        for (int i = 0; i < priced; i++) {
+            sortedPrices[i] = (int) (keyed[i] >>> 32);
+            positionsByPrice[i] = (int) keyed[i];
+        }
+        int next = priced;
+        for (int i = 0; i < size; i++) {
+            if (catalog.get(i).price() == null) {
+                positionsByPrice[next++] = i;
+            }
+        }
+    }
+
+    public Result search(Query query, Sort sort, int offset, int limit) {
+        long[] base = all.clone();
+        if (query.minPrice() != null || query.maxPrice() != null) {
+            and(base, priceRange(query.minPrice(), query.maxPrice()));
+        }
+
+        Map<CarFacet, long[]> facetMasks = new EnumMap<>(CarFacet.class);
+        query.filters().forEach((facet, values) -> {
+            if (values != null && !values.isEmpty()) {
+                facetMasks.put(facet, union(facet, values));
+            }
+        });
+
+        long[] matches = base.clone();
+        facetMasks.values().forEach(mask -> and(matches, mask));
+
+        // Counts for a facet ignore that facet's own selection so the UI can offer alternatives
+        Map<String, Map<String, Integer>> facetCounts = new LinkedHashMap<>();
+        for (CarFacet facet : CarFacet.values()) {
+            long[] scope = matches;
+            if (facetMasks.containsKey(facet)) {
+                scope = base.clone();
+                for (Map.Entry<CarFacet, long[]> entry : facetMasks.entrySet()) {
+                    if (entry.getKey() != facet) {
+                        and(scope, entry.getValue());
+                    }
+                }
+            }
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            Map<String, long[]> facetBitmaps = bitmaps.get(facet);
+            for (Map.Entry<String, String> label : labels.get(facet).entrySet()) {
+                int count = intersectionCount(scope, facetBitmaps.get(label.getKey()));
+                if (count > 0) {
+                    counts.put(label.getValue(), count);
+                }
+            }
+            facetCounts.put(facet.param(), counts);
+        }
+
+        int total = cardinality(matches);
+        int[] page = new int[Math.max(0, Math.min(limit, total - offset))];
+        int skipped = 0;
+        int filled = 0;
+        for (int i = 0; i < size && filled < page.length; i++) {
+            int position = switch (sort) {
+                case RELEVANCE -> i;
+                case PRICE_ASC -> positionsByPrice[i];
+                case PRICE_DESC -> positionsByPrice[descendingIndex(i)];
+            };
+            if ((matches[position >>> 6] & 1L << position) != 0 && skipped++ >= offset) {
+                page[filled++] = position;
+            }
+        }
+        return new Result(total, page, facetCounts);
+    }
+
+    private long[] priceRange(Long minPrice, Long maxPrice) {
+        int from = minPrice != null ? lowerBound(clamp(minPrice)) : 0;
+        int to = maxPrice != null ? lowerBound(clamp(maxPrice) + 1L) : sortedPrices.length;
+        long[] mask = new long[words];
+        for (int i = from; i < to; i++) {
+            int position = positionsByPrice[i];
+            mask[position >>> 6] |= 1L << position;
+        }
+        return mask;
+    }
+
+    // First index whose price is >= target
+    private int lowerBound(long target) {
+        int low = 0;
+        int high = sortedPrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedPrices[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Walks priced cars from most to least expensive, then the unpriced ones
+    private int descendingIndex(int i) {
+        int priced = sortedPrices.length;
+        return i < priced ? priced - 1 - i : i;
+    }
+
+    private long[] union(CarFacet facet, Collection<String> values) {
+        long[] mask = new long[words];
+        Map<String, long[]> facetBitmaps = bitmaps.get(facet);
+        for (String value : values) {
+            long[] bitmap = facetBitmaps.get(normalize(value));
+            if (bitmap != null) {
+                for (int w = 0; w < words; w++) {
+                    mask[w] |= bitmap[w];
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static void and(long[] target, long[] mask) {
+        for (int w = 0; w < target.length; w++) {
+            target[w] &= mask[w];
+        }
+    }
+
+    private static int intersectionCount(long[] a, long[] b) {
+        int count = 0;
+        for (int w = 0; w < a.length; w++) {
+            count += Long.bitCount(a[w] & b[w]);
+        }
+        return count;
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int clamp(long price) {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, price));
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
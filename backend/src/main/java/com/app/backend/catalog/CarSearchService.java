@@ -0,0 +1,43 @@
+package com.app.backend.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class CarSearchService {
+
+    public record Hits(int total, List<String> ids, Map<String, Map<String, Integer>> facets) {
+    }
+
+    // Catalog and index are swapped together so positions always refer to the right array
+    private record Snapshot(CarCatalog catalog, CarFacetIndex index) {
+    }
+
+    private volatile Snapshot snapshot;
+
+    public CarSearchService(CatalogService catalogService) {
+        catalogService.addListener(this::rebuild);
+    }
+
+    public Hits search(CarFacetIndex.Query query, CarFacetIndex.Sort sort, int offset, int limit) {
+        Snapshot current = snapshot;
+        CarFacetIndex.Result result = current.index().search(query, sort, offset, limit);
+
+        List<String> ids = new ArrayList<>(result.positions().length);
+        for (int position : result.positions()) {
+            ids.add(current.catalog().get(position).id());
+        }
+        return new Hits(result.total(), ids, result.facetCounts());
+    }
+
+    private void rebuild(CarCatalog catalog) {
+        long start = System.nanoTime();
+        snapshot = new Snapshot(catalog, new CarFacetIndex(catalog));
+        log.info("Car facet index built: cars={}, took={}us", catalog.size(), (System.nanoTime() - start) / 1000);
+    }
+}
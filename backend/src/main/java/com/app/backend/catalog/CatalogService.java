@@ -0,0 +1,165 @@
+package com.app.backend.catalog;
+
+import com.app.backend.exceptions.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class CatalogService {
+
+    private static final long RELOAD_DEBOUNCE_MILLIS = 250;
+
+    private final Path carsPath;
+    private final boolean watch;
+    private final boolean validateCarIds;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<CarCatalog>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile CarCatalog catalog = CarCatalog.EMPTY;
+    private WatchService watchService;
+
+    public CatalogService(
+            @Value("${catalog.cars.path:../resources/entries/car.json}") String carsPath,
+            @Value("${catalog.watch:true}") boolean watch,
+            @Value("${catalog.validate-car-ids:false}") boolean validateCarIds,
+            ObjectMapper objectMapper) {
+        this.carsPath = Path.of(carsPath).toAbsolutePath().normalize();
+        this.watch = watch;
+        this.validateCarIds = validateCarIds;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reload();
+        if (watch) {
+            startWatcher();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    public CarCatalog getCatalog() {
+        return catalog;
+    }
+
+    public Car getCar(String id) {
+        Car car = catalog.find(id);
+        if (car == null) {
+            throw new ResourceNotFoundException("Car not found: " + id);
+        }
+        return car;
+    }
+
+    public boolean containsCar(String id) {
+        return catalog.positionOf(id) >= 0;
+    }
+
+    // Rejects car ids the catalog does not know about. Skipped while the catalog is empty so a
+    // missing seed file does not block every write.
+    public void validateCarId(String carId) {
+        CarCatalog current = catalog;
+        if (validateCarIds && current.size() > 0 && current.positionOf(carId) < 0) {
+            throw new IllegalArgumentException("Unknown carId: " + carId);
+        }
+    }
+
+    // Listeners receive the current catalog immediately and every reloaded one afterwards
+    public void addListener(Consumer<CarCatalog> listener) {
+        listeners.add(listener);
+        listener.accept(catalog);
+    }
+
+    public synchronized void reload() {
+        if (!Files.isRegularFile(carsPath)) {
+            log.warn("Car catalog file not found, serving an empty catalog: path={}", carsPath);
+            return;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(carsPath.toFile());
+            List<Car> cars = new ArrayList<>();
+            for (JsonNode entry : root.path("entries")) {
+                cars.add(objectMapper.treeToValue(entry, Car.class));
+            }
+            CarCatalog loaded = new CarCatalog(cars);
+            catalog = loaded;
+            log.info("Car catalog loaded: cars={}, path={}", loaded.size(), carsPath);
+
+            for (Consumer<CarCatalog> listener : listeners) {
+                listener.accept(loaded);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to load car catalog, keeping the previous one: path={}", carsPath, e);
+        }
+    }
+
+    private void startWatcher() {
+        Path directory = carsPath.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            log.warn("Car catalog directory not found, hot reload disabled: path={}", carsPath);
+            return;
+        }
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn("Failed to watch car catalog, hot reload disabled: path={}", carsPath, e);
+            return;
+        }
+
+        Thread watcher = new Thread(this::watchLoop, "catalog-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watchLoop() {
+        Path fileName = carsPath.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+
+                if (changed) {
+                    // Editors and copy tools often write in several steps
+                    Thread.sleep(RELOAD_DEBOUNCE_MILLIS);
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.app.backend.composite;
+
+// A sub-resource the composite endpoint can resolve, named by its parts= value
+public enum CompositePart {
+    CAR("car"),
+    PROFILE("profile"),
+    ACTIVITY("activity"),
+    INTERESTS("interests"),
+    TEST_DRIVES("testDrives"),
+    AVAILABILITY("availability");
+
+    private final String param;
+
+    CompositePart(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public static CompositePart fromParam(String param) {
+        for (CompositePart part : values()) {
+            if (part.param.equalsIgnoreCase(param)) {
+                return part;
+            }
+        }
+        throw new IllegalArgumentException(
+                "parts must be among car, profile, activity, interests, testDrives, availability");
+    }
+}
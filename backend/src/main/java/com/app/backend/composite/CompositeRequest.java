@@ -0,0 +1,17 @@
+package com.app.backend.composite;
+
+import java.time.Duration;
+import java.util.Set;
+
+// Parts to resolve for one user. carId selects the car and narrows interests and test drives
+// to it; dealerId and days select availability. timeout is the deadline for the whole request.
+public record CompositeRequest(
+        String uid,
+        String email,
+        Set<CompositePart> parts,
+        String carId,
+        String dealerId,
+        int limit,
+        int days,
+        Duration timeout) {
+}
@@ -0,0 +1,175 @@
+package com.app.backend.composite;
+
+import com.app.backend.catalog.CatalogService;
+import com.app.backend.dtos.CompositePartResponse;
+import com.app.backend.dtos.CompositeResponse;
+import com.app.backend.exceptions.FirestoreOperationException;
+import com.app.backend.exceptions.ResourceNotFoundException;
+import com.app.backend.repository.ActivityRepository;
+import com.app.backend.repository.Page;
+import com.app.backend.repository.PageRequest;
+import com.app.backend.services.InterestService;
+import com.app.backend.services.TestDriveService;
+import com.app.backend.services.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.app.backend.utils.FutureUtils.unwrap;
+
+// Resolves the parts of a composite request concurrently. Every part starts at once and the
+// response is assembled when the last one completes or the deadline passes, whichever comes
+// first, so the request takes as long as its slowest part rather than the sum. Parts still
+// running at the deadline are reported as timed out and their results discarded; parts that
+// fail are reported with an error, and the others are returned either way.
+@Slf4j
+@Service
+public class CompositeService {
+
+    private static final String[] OUTCOMES = {
+            CompositePartResponse.STATUS_OK, CompositePartResponse.STATUS_ERROR, CompositePartResponse.STATUS_TIMEOUT};
+
+    private final CatalogService catalogService;
+    private final UserService userService;
+    private final ActivityRepository activityRepository;
+    private final InterestService interestService;
+    private final TestDriveService testDriveService;
+    // Indexed by part ordinal, then by position in OUTCOMES
+    private final Timer[][] partTimers;
+
+    public CompositeService(
+            CatalogService catalogService,
+            UserService userService,
+            ActivityRepository activityRepository,
+            InterestService interestService,
+            TestDriveService testDriveService,
+            MeterRegistry meterRegistry) {
+        this.catalogService = catalogService;
+        this.userService = userService;
+        this.activityRepository = activityRepository;
+        this.interestService = interestService;
+        this.testDriveService = testDriveService;
+
+        CompositePart[] parts = CompositePart.values();
+        this.partTimers = new Timer[parts.length][OUTCOMES.length];
+        for (CompositePart part : parts) {
+            for (int i = 0; i < OUTCOMES.length; i++) {
+                partTimers[part.ordinal()][i] = Timer.builder("composite.part")
+                        .description("Latency of composite request parts, capped at the request deadline")
+                        .tag("part", part.param())
+                        .tag("outcome", OUTCOMES[i])
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    public CompletableFuture<CompositeResponse> resolve(CompositeRequest request) {
+        long start = System.nanoTime();
+        Map<CompositePart, CompletableFuture<CompositePartResponse>> calls = new EnumMap<>(CompositePart.class);
+        for (CompositePart part : request.parts()) {
+            calls.put(part, call(part, request, start));
+        }
+
+        long remaining = Math.max(0, request.timeout().toNanos() - (System.nanoTime() - start));
+        return CompletableFuture.allOf(calls.values().toArray(CompletableFuture[]::new))
+                .completeOnTimeout(null, remaining, TimeUnit.NANOSECONDS)
+                .thenApply(ignored -> assemble(request, calls, start));
+    }
+
+    // Takes whatever has completed by now; a part finishing later is no longer recorded
+    private CompositeResponse assemble(
+            CompositeRequest request,
+            Map<CompositePart, CompletableFuture<CompositePartResponse>> calls,
+            long start) {
+        double elapsedMs = millisSince(start);
+        Map<String, CompositePartResponse> parts = new LinkedHashMap<>();
+        boolean complete = true;
+
+        for (CompositePart part : request.parts()) {
+            CompositePartResponse response = calls.get(part).getNow(null);
+            if (response == null) {
+                response = CompositePartResponse.timeout(elapsedMs);
+                log.warn("Composite part timed out: part={}, uid={}, timeout={}", part.param(), request.uid(), request.timeout());
+            }
+            complete &= CompositePartResponse.STATUS_OK.equals(response.getStatus());
+            record(part, response);
+            parts.put(part.param(), response);
+        }
+        return CompositeResponse.builder()
+                .parts(parts)
+                .complete(complete)
+                .latencyMs(elapsedMs)
+                .build();
+    }
+
+    // Never completes exceptionally: a failure becomes an error part
+    private CompletableFuture<CompositePartResponse> call(CompositePart part, CompositeRequest request, long start) {
+        CompletableFuture<?> result;
+        try {
+            result = fetch(part, request);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.handle((data, e) -> {
+            double latencyMs = millisSince(start);
+            if (e == null) {
+                return CompositePartResponse.ok(data, latencyMs);
+            }
+            Throwable cause = unwrap(e);
+            if (cause instanceof ResourceNotFoundException) {
+                return CompositePartResponse.error(cause.getMessage(), "NOT_FOUND", latencyMs);
+            }
+            if (cause instanceof IllegalArgumentException) {
+                return CompositePartResponse.error(cause.getMessage(), "BAD_REQUEST", latencyMs);
+            }
+            log.error("Composite part failed: part={}, uid={}", part.param(), request.uid(), cause);
+            return cause instanceof FirestoreOperationException
+                    ? CompositePartResponse.error("Database operation failed", "FIRESTORE_ERROR", latencyMs)
+                    : CompositePartResponse.error("An unexpected error occurred", "INTERNAL_ERROR", latencyMs);
+        });
+    }
+
+    // Catalog and availability are served from memory and complete inline
+    private CompletableFuture<?> fetch(CompositePart part, CompositeRequest request) {
+        return switch (part) {
+            case CAR -> CompletableFuture.completedFuture(catalogService.getCar(request.carId()));
+            case PROFILE -> userService.getOrCreateUser(request.uid(), request.email());
+            case ACTIVITY -> activityRepository.getUserActivity(request.uid());
+            case INTERESTS -> request.carId() != null
+                    ? interestService.getInterestsForCar(request.uid(), request.carId(), request.limit())
+                    : interestService.getInterestsByUserId(request.uid(), PageRequest.firstPage(request.limit()))
+                            .thenApply(Page::items);
+            case TEST_DRIVES -> request.carId() != null
+                    ? testDriveService.getTestDrivesForCar(request.uid(), request.carId(), request.limit())
+                    : testDriveService.getTestDrivesByUserId(request.uid(), PageRequest.firstPage(request.limit()))
+                            .thenApply(Page::items);
+            case AVAILABILITY -> CompletableFuture.completedFuture(
+                    testDriveService.getFreeSlots(request.dealerId(), request.days()));
+        };
+    }
+
+    private void record(CompositePart part, CompositePartResponse response) {
+        int outcome = switch (response.getStatus()) {
+            case CompositePartResponse.STATUS_OK -> 0;
+            case CompositePartResponse.STATUS_ERROR -> 1;
+            default -> 2;
+        };
+        partTimers[part.ordinal()][outcome].record(Math.round(response.getLatencyMs() * 1_000_000), TimeUnit.NANOSECONDS);
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+}
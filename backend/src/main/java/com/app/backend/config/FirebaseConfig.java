@@ -8,6 +8,7 @@ import com.google.firebase.cloud.FirestoreClient;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
@@ -23,6 +24,12 @@ public class FirebaseConfig {
     @Value("${firebase.credentials.path}")
     private String firebaseCredentialsPath;
 
+    @Value("${repository.type:firestore}")
+    private String repositoryType;
+
+    @Value("${auth.token-verifier:firebase-admin}")
+    private String tokenVerifier;
+
     private final ResourceLoader resourceLoader;
 
     public FirebaseConfig(ResourceLoader resourceLoader) {
@@ -31,6 +38,11 @@ public class FirebaseConfig {
 
     @PostConstruct
     public void initializeFirebase() {
+        // The local store with a non-Admin token verifier runs without service account credentials
+        if ("local".equals(repositoryType) && !"firebase-admin".equals(tokenVerifier)) {
+            log.info("Firebase not initialized: repository.type=local, auth.token-verifier={}", tokenVerifier);
+            return;
+        }
         try {
             if (FirebaseApp.getApps().isEmpty()) {
                 Resource resource = resourceLoader.getResource(firebaseCredentialsPath);
@@ -50,6 +62,7 @@ public class FirebaseConfig {
     }
 
     @Bean
+    @ConditionalOnProperty(name = "repository.type", havingValue = "firestore", matchIfMissing = true)
     public Firestore firestore() {
         return FirestoreClient.getFirestore();
     }
@@ -1,9 +1,9 @@
 package com.app.backend.controllers;
 
+import com.app.backend.auth.VerifiedToken;
 import com.app.backend.dtos.ApiResponse;
 import com.app.backend.dtos.AuthVerifyResponse;
 import com.app.backend.filters.FirebaseAuthFilter;
-import com.google.firebase.auth.FirebaseToken;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -23,9 +23,9 @@ public class AuthController {
     public ResponseEntity<ApiResponse<AuthVerifyResponse>> verifyToken(HttpServletRequest request) {
         String uid = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
         String email = (String) request.getAttribute(FirebaseAuthFilter.USER_EMAIL_ATTRIBUTE);
-        FirebaseToken token = (FirebaseToken) request.getAttribute(FirebaseAuthFilter.FIREBASE_TOKEN_ATTRIBUTE);
+        VerifiedToken token = (VerifiedToken) request.getAttribute(FirebaseAuthFilter.FIREBASE_TOKEN_ATTRIBUTE);
 
-        Map<String, Object> claims = new HashMap<>(token.getClaims());
+        Map<String, Object> claims = new HashMap<>(token.claims());
         // Remove standard claims that are already exposed
         claims.remove("iss");
         claims.remove("aud");
@@ -40,9 +40,9 @@ public class AuthController {
         AuthVerifyResponse response = AuthVerifyResponse.builder()
                 .uid(uid)
                 .email(email)
-                .name(token.getName())
-                .picture(token.getPicture())
-                .emailVerified(token.isEmailVerified())
+                .name(token.name())
+                .picture(token.picture())
+                .emailVerified(token.emailVerified())
                 .claims(claims.isEmpty() ? null : claims)
                 .build();
 
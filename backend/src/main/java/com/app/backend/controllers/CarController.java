@@ -0,0 +1,106 @@
+package com.app.backend.controllers;
+
+import com.app.backend.catalog.Car;
+import com.app.backend.catalog.CarFacet;
+import com.app.backend.catalog.CarFacetIndex;
+import com.app.backend.catalog.CarSearchService;
+import com.app.backend.catalog.CatalogService;
+import com.app.backend.dtos.ApiResponse;
+import com.app.backend.dtos.CarSearchResponse;
+import com.app.backend.encoding.EncodedResponse;
+import com.app.backend.encoding.EncodedResponseCache;
+import com.app.backend.encoding.ResponseEncoder;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/api/cars")
+public class CarController {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 1000;
+
+    private static final String CAR_ENDPOINT = "/v1/api/cars/{id}";
+    private static final int MAX_CACHED_CARS = 100_000;
+
+    private final CatalogService catalogService;
+    private final CarSearchService carSearchService;
+    private final ResponseEncoder responseEncoder;
+    private final EncodedResponseCache carResponses = new EncodedResponseCache(MAX_CACHED_CARS);
+
+    public CarController(
+            CatalogService catalogService,
+            CarSearchService carSearchService,
+            ResponseEncoder responseEncoder) {
+        this.catalogService = catalogService;
+        this.carSearchService = carSearchService;
+        this.responseEncoder = responseEncoder;
+        catalogService.addListener(catalog -> carResponses.clear());
+    }
+
+    // Car entries only change on catalog reload, so the envelope is serialized once per car
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getCar(HttpServletRequest request, @PathVariable String id) {
+        log.debug("Getting car: id={}", id);
+        Car car = catalogService.getCar(id);
+        EncodedResponse encoded = carResponses.get(car.id(),
+                () -> responseEncoder.encode(CAR_ENDPOINT, ApiResponse.success(car)));
+        return responseEncoder.respond(request, CAR_ENDPOINT, encoded);
+    }
+
+    // Facet values may repeat (brand=Tata&brand=Kia) or be comma separated (brand=Tata,Kia)
+    @GetMapping
+    public ResponseEntity<ApiResponse<CarSearchResponse>> searchCars(
+            @RequestParam MultiValueMap<String, String> params,
+            @RequestParam(name = "min_price", required = false) Long minPrice,
+            @RequestParam(name = "max_price", required = false) Long maxPrice,
+            @RequestParam(required = false, defaultValue = "relevance") String sort,
+            @RequestParam(required = false, defaultValue = "0") int offset,
+            @RequestParam(required = false) Integer limit) {
+
+        Map<CarFacet, Collection<String>> filters = new EnumMap<>(CarFacet.class);
+        for (CarFacet facet : CarFacet.values()) {
+            List<String> raw = params.get(facet.param());
+            if (raw != null) {
+                List<String> values = new ArrayList<>();
+                raw.forEach(value -> values.addAll(List.of(value.split(","))));
+                filters.put(facet, values);
+            }
+        }
+
+        CarFacetIndex.Sort order;
+        try {
+            order = CarFacetIndex.Sort.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("sort must be one of relevance, price_asc, price_desc");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        CarSearchService.Hits hits = carSearchService.search(
+                new CarFacetIndex.Query(filters, minPrice, maxPrice), order, offset, pageSize);
+
+        return ResponseEntity.ok(ApiResponse.success(CarSearchResponse.builder()
+                .total(hits.total())
+                .ids(hits.ids())
+                .facets(hits.facets())
+                .build()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.app.backend.controllers;
+
+import com.app.backend.composite.CompositePart;
+import com.app.backend.composite.CompositeRequest;
+import com.app.backend.composite.CompositeService;
+import com.app.backend.dtos.ApiResponse;
+import com.app.backend.dtos.CompositePartResponse;
+import com.app.backend.dtos.CompositeResponse;
+import com.app.backend.filters.FirebaseAuthFilter;
+import com.app.backend.repository.PageRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/api/composite")
+public class CompositeController {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int DEFAULT_AVAILABILITY_DAYS = 14;
+    private static final int MAX_AVAILABILITY_DAYS = 30;
+
+    private final CompositeService compositeService;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public CompositeController(
+            CompositeService compositeService,
+            @Value("${composite.timeout:1s}") Duration defaultTimeout,
+            @Value("${composite.max-timeout:5s}") Duration maxTimeout) {
+        this.compositeService = compositeService;
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    // Several sub-resources in one round trip, e.g. parts=car,interests,testDrives&carId=...
+    // for a car page. Always 200 once the request is valid: each part carries its own status,
+    // and Server-Timing reports per-part latency to browser dev tools.
+    @GetMapping
+    public CompletableFuture<ResponseEntity<ApiResponse<CompositeResponse>>> getComposite(
+            HttpServletRequest request,
+            @RequestParam List<String> parts,
+            @RequestParam(required = false) String carId,
+            @RequestParam(required = false) String dealerId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) Long timeoutMs) {
+
+        String uid = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
+        String email = (String) request.getAttribute(FirebaseAuthFilter.USER_EMAIL_ATTRIBUTE);
+
+        // Request order is kept in the response; repeated parts are resolved once
+        Set<CompositePart> requested = new LinkedHashSet<>();
+        for (String part : parts) {
+            requested.add(CompositePart.fromParam(part.trim()));
+        }
+        if (requested.contains(CompositePart.CAR) && carId == null) {
+            throw new IllegalArgumentException("carId is required for the car part");
+        }
+        if (requested.contains(CompositePart.AVAILABILITY) && dealerId == null) {
+            throw new IllegalArgumentException("dealerId is required for the availability part");
+        }
+        int availabilityDays = days == null ? DEFAULT_AVAILABILITY_DAYS : days;
+        if (availabilityDays < 1 || availabilityDays > MAX_AVAILABILITY_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_AVAILABILITY_DAYS);
+        }
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, PageRequest.MAX_LIMIT));
+        Duration timeout = timeoutMs == null
+                ? defaultTimeout
+                : Duration.ofMillis(Math.max(1, Math.min(timeoutMs, maxTimeout.toMillis())));
+
+        log.info("Resolving composite request: uid={}, parts={}, timeout={}", uid, requested, timeout);
+        CompositeRequest compositeRequest = new CompositeRequest(
+                uid, email, requested, carId, dealerId, size, availabilityDays, timeout);
+        return compositeService.resolve(compositeRequest)
+                .thenApply(response -> ResponseEntity.ok()
+                        .header("Server-Timing", serverTiming(response))
+                        .body(ApiResponse.success(response)));
+    }
+
+    private static String serverTiming(CompositeResponse response) {
+        StringBuilder header = new StringBuilder();
+        for (Map.Entry<String, CompositePartResponse> part : response.getParts().entrySet()) {
+            header.append(part.getKey())
+                    .append(";desc=").append(part.getValue().getStatus())
+                    .append(";dur=").append(String.format(Locale.ROOT, "%.1f", part.getValue().getLatencyMs()))
+                    .append(", ");
+        }
+        return header.append("total;dur=").append(String.format(Locale.ROOT, "%.1f", response.getLatencyMs())).toString();
+    }
+}
@@ -1,5 +1,8 @@
 package com.app.backend.controllers;
 
+import com.app.backend.encoding.EncodedResponse;
+import com.app.backend.encoding.ResponseEncoder;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,9 +12,18 @@ import java.util.Map;
 @RestController
 public class HealthController {
 
-    @GetMapping("/health")
-    public ResponseEntity<Map<String, String>> health() {
-        return ResponseEntity.ok(Map.of("status", "ok"));
+    private static final String ENDPOINT = "/health";
+
+    private final ResponseEncoder responseEncoder;
+    private final EncodedResponse ok;
+
+    public HealthController(ResponseEncoder responseEncoder) {
+        this.responseEncoder = responseEncoder;
+        this.ok = responseEncoder.encode(ENDPOINT, Map.of("status", "ok"));
     }
-}
 
+    @GetMapping(ENDPOINT)
+    public ResponseEntity<byte[]> health(HttpServletRequest request) {
+        return responseEncoder.respond(request, ENDPOINT, ok);
+    }
+}
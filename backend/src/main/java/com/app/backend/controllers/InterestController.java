@@ -1,22 +1,32 @@
 package com.app.backend.controllers;
 
 import com.app.backend.dtos.ApiResponse;
+import com.app.backend.dtos.BatchItemResponse;
+import com.app.backend.dtos.InterestBatchRequest;
 import com.app.backend.dtos.InterestRequest;
 import com.app.backend.dtos.InterestResponse;
 import com.app.backend.filters.FirebaseAuthFilter;
+import com.app.backend.repository.PageRequest;
+import com.app.backend.repository.PageStream;
 import com.app.backend.services.InterestService;
+import com.app.backend.utils.StreamingResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -24,32 +34,73 @@ import java.util.List;
 public class InterestController {
 
     private final InterestService interestService;
+    private final ObjectMapper objectMapper;
 
-    public InterestController(InterestService interestService) {
+    public InterestController(InterestService interestService, ObjectMapper objectMapper) {
         this.interestService = interestService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
-    public ResponseEntity<ApiResponse<InterestResponse>> createInterest(
+    public CompletableFuture<ResponseEntity<ApiResponse<InterestResponse>>> createInterest(
             HttpServletRequest request,
             @Valid @RequestBody InterestRequest interestRequest) {
         
         String userId = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
         
         log.info("Creating interest: userId={}, carId={}", userId, interestRequest.getCarId());
-        InterestResponse response = interestService.createInterest(userId, interestRequest);
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(ApiResponse.success(response));
+        return interestService.createInterest(userId, interestRequest)
+                .thenApply(response -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(ApiResponse.success(response)));
+    }
+
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<BatchItemResponse<InterestResponse>>>>> createInterests(
+            HttpServletRequest request,
+            @Valid @RequestBody InterestBatchRequest batchRequest) {
+
+        String userId = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
+
+        log.info("Creating interest batch: userId={}, count={}", userId, batchRequest.getInterests().size());
+        return interestService.createInterests(userId, batchRequest.getInterests())
+                .thenApply(results -> {
+                    boolean allSucceeded = results.stream().allMatch(BatchItemResponse::isSuccess);
+                    return ResponseEntity
+                            .status(allSucceeded ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                            .body(ApiResponse.success(results));
+                });
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<InterestResponse>>> getInterests(HttpServletRequest request) {
+    public CompletableFuture<ResponseEntity<ApiResponse<List<InterestResponse>>>> getInterests(
+            HttpServletRequest request,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) List<String> fields) {
+        
         String userId = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
         
         log.info("Getting interests for user: userId={}", userId);
-        List<InterestResponse> interests = interestService.getInterestsByUserId(userId);
-        return ResponseEntity.ok(ApiResponse.success(interests));
+        PageRequest pageRequest = PageRequest.of(limit, pageToken, fields);
+        return interestService.getInterestsByUserId(userId, pageRequest)
+                .thenApply(page -> ResponseEntity.ok(ApiResponse.success(page.items(), page.nextPageToken())));
     }
-}
 
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamInterests(
+            HttpServletRequest request,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) List<String> fields) {
+
+        String userId = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
+
+        log.info("Streaming interests for user: userId={}", userId);
+        PageRequest pageRequest = PageRequest.of(limit, pageToken, fields, PageRequest.MAX_STREAM_LIMIT);
+        PageStream<InterestResponse> stream = interestService.streamInterestsByUserId(userId, pageRequest);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(StreamingResponses.page(objectMapper, stream));
+    }
+}
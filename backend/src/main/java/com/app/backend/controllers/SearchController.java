@@ -0,0 +1,51 @@
+package com.app.backend.controllers;
+
+import com.app.backend.dtos.ApiResponse;
+import com.app.backend.dtos.SearchResultResponse;
+import com.app.backend.search.SearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/api/search")
+public class SearchController {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_LENGTH = 256;
+    private static final Set<String> TYPES = Set.of(
+            SearchService.TYPE_CAR, SearchService.TYPE_NEWS, SearchService.TYPE_REVIEW);
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SearchResultResponse>>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false, defaultValue = "true") boolean prefix,
+            @RequestParam(required = false) Integer limit) {
+
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (type != null && !TYPES.contains(type)) {
+            throw new IllegalArgumentException("type must be one of car, news, review");
+        }
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        log.debug("Searching: q={}, type={}", q, type);
+        return ResponseEntity.ok(ApiResponse.success(searchService.search(q, type, prefix, pageSize)));
+    }
+}
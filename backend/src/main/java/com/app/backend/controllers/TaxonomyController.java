@@ -0,0 +1,123 @@
+package com.app.backend.controllers;
+
+import com.app.backend.catalog.CatalogService;
+import com.app.backend.dtos.ApiResponse;
+import com.app.backend.dtos.TaxonomyTermResponse;
+import com.app.backend.encoding.EncodedResponse;
+import com.app.backend.encoding.EncodedResponseCache;
+import com.app.backend.encoding.ResponseEncoder;
+import com.app.backend.taxonomy.TaxonomyService;
+import com.app.backend.taxonomy.TaxonomyTree;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/api/taxonomies")
+public class TaxonomyController {
+
+    private static final String SUBTREE_ENDPOINT = "/v1/api/taxonomies/{taxonomyUid}/terms/{termUid}/subtree";
+    private static final String ANCESTORS_ENDPOINT = "/v1/api/taxonomies/{taxonomyUid}/terms/{termUid}/ancestors";
+    private static final String CARS_ENDPOINT = "/v1/api/taxonomies/{taxonomyUid}/terms/{termUid}/cars";
+    private static final int MAX_CACHED_RESPONSES = 10_000;
+
+    private final TaxonomyService taxonomyService;
+    private final ResponseEncoder responseEncoder;
+    // Trees are loaded once at startup; car postings follow the catalog, so clear on reload
+    private final EncodedResponseCache responses = new EncodedResponseCache(MAX_CACHED_RESPONSES);
+
+    public TaxonomyController(
+            TaxonomyService taxonomyService,
+            CatalogService catalogService,
+            ResponseEncoder responseEncoder) {
+        this.taxonomyService = taxonomyService;
+        this.responseEncoder = responseEncoder;
+        catalogService.addListener(catalog -> responses.clear());
+    }
+
+    // The term and its descendants in pre-order, optionally limited to maxDepth levels below it
+    @GetMapping("/{taxonomyUid}/terms/{termUid}/subtree")
+    public ResponseEntity<byte[]> getSubtree(
+            HttpServletRequest request,
+            @PathVariable String taxonomyUid,
+            @PathVariable String termUid,
+            @RequestParam(required = false) Integer maxDepth) {
+
+        String key = "subtree:" + taxonomyUid + ":" + termUid + ":" + maxDepth;
+        EncodedResponse encoded = responses.get(key, () -> responseEncoder.encode(SUBTREE_ENDPOINT,
+                ApiResponse.success(subtree(taxonomyUid, termUid, maxDepth))));
+        return responseEncoder.respond(request, SUBTREE_ENDPOINT, encoded);
+    }
+
+    private List<TaxonomyTermResponse> subtree(String taxonomyUid, String termUid, Integer maxDepth) {
+        TaxonomyTree tree = taxonomyService.getTree(taxonomyUid);
+        int root = taxonomyService.getTermOrdinal(taxonomyUid, termUid);
+        int depthLimit = maxDepth == null ? Integer.MAX_VALUE : tree.depth(root) + Math.max(0, maxDepth);
+
+        List<TaxonomyTermResponse> terms = new ArrayList<>();
+        int end = tree.subtreeEnd(root);
+        for (int ordinal = root; ordinal < end; ordinal++) {
+            if (tree.depth(ordinal) <= depthLimit) {
+                terms.add(toResponse(tree, ordinal));
+            }
+        }
+        return terms;
+    }
+
+    // Path from the taxonomy root down to the term, for breadcrumbs
+    @GetMapping("/{taxonomyUid}/terms/{termUid}/ancestors")
+    public ResponseEntity<byte[]> getAncestors(
+            HttpServletRequest request,
+            @PathVariable String taxonomyUid,
+            @PathVariable String termUid) {
+
+        String key = "ancestors:" + taxonomyUid + ":" + termUid;
+        EncodedResponse encoded = responses.get(key, () -> responseEncoder.encode(ANCESTORS_ENDPOINT,
+                ApiResponse.success(ancestors(taxonomyUid, termUid))));
+        return responseEncoder.respond(request, ANCESTORS_ENDPOINT, encoded);
+    }
+
+    private List<TaxonomyTermResponse> ancestors(String taxonomyUid, String termUid) {
+        TaxonomyTree tree = taxonomyService.getTree(taxonomyUid);
+        List<TaxonomyTermResponse> path = new ArrayList<>();
+        for (int ordinal = taxonomyService.getTermOrdinal(taxonomyUid, termUid); ordinal >= 0; ordinal = tree.parent(ordinal)) {
+            path.add(toResponse(tree, ordinal));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    // Cars tagged with the term or any descendant, e.g. every car under maruti_suzuki
+    @GetMapping("/{taxonomyUid}/terms/{termUid}/cars")
+    public ResponseEntity<byte[]> getCars(
+            HttpServletRequest request,
+            @PathVariable String taxonomyUid,
+            @PathVariable String termUid) {
+
+        log.debug("Getting cars under taxonomy term: taxonomy={}, term={}", taxonomyUid, termUid);
+        String key = "cars:" + taxonomyUid + ":" + termUid;
+        EncodedResponse encoded = responses.get(key, () -> responseEncoder.encode(CARS_ENDPOINT,
+                ApiResponse.success(taxonomyService.getCarsUnder(taxonomyUid, termUid))));
+        return responseEncoder.respond(request, CARS_ENDPOINT, encoded);
+    }
+
+    private static TaxonomyTermResponse toResponse(TaxonomyTree tree, int ordinal) {
+        int parent = tree.parent(ordinal);
+        return TaxonomyTermResponse.builder()
+                .uid(tree.termUid(ordinal))
+                .name(tree.name(ordinal))
+                .parentUid(parent >= 0 ? tree.termUid(parent) : null)
+                .depth(tree.depth(ordinal))
+                .build();
+    }
+}
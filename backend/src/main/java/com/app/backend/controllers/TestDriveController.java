@@ -3,34 +3,47 @@ package com.app.backend.controllers;
 import com.app.backend.dtos.ApiResponse;
 import com.app.backend.dtos.TestDriveRequest;
 import com.app.backend.dtos.TestDriveResponse;
+import com.app.backend.dtos.TestDriveSlotResponse;
 import com.app.backend.filters.FirebaseAuthFilter;
+import com.app.backend.repository.PageRequest;
+import com.app.backend.repository.PageStream;
 import com.app.backend.services.TestDriveService;
+import com.app.backend.utils.StreamingResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
 @RequestMapping("/v1/api/test-drives")
 public class TestDriveController {
 
+    private static final int MAX_AVAILABILITY_DAYS = 30;
+
     private final TestDriveService testDriveService;
+    private final ObjectMapper objectMapper;
 
-    public TestDriveController(TestDriveService testDriveService) {
+    public TestDriveController(TestDriveService testDriveService, ObjectMapper objectMapper) {
         this.testDriveService = testDriveService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
-    public ResponseEntity<ApiResponse<TestDriveResponse>> createTestDrive(
+    public CompletableFuture<ResponseEntity<ApiResponse<TestDriveResponse>>> createTestDrive(
             HttpServletRequest request,
             @Valid @RequestBody TestDriveRequest testDriveRequest) {
         
@@ -38,19 +51,53 @@ public class TestDriveController {
         
         log.info("Creating test drive: userId={}, carId={}, dealerId={}", 
                 userId, testDriveRequest.getCarId(), testDriveRequest.getDealerId());
-        TestDriveResponse response = testDriveService.createTestDrive(userId, testDriveRequest);
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(ApiResponse.success(response));
+        return testDriveService.createTestDrive(userId, testDriveRequest)
+                .thenApply(response -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(ApiResponse.success(response)));
+    }
+
+    // Free slots for a dealer over the next days (default 14), served from memory
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<List<TestDriveSlotResponse>>> getAvailability(
+            @RequestParam String dealerId,
+            @RequestParam(required = false, defaultValue = "14") int days) {
+
+        if (days < 1 || days > MAX_AVAILABILITY_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_AVAILABILITY_DAYS);
+        }
+        return ResponseEntity.ok(ApiResponse.success(testDriveService.getFreeSlots(dealerId, days)));
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<TestDriveResponse>>> getTestDrives(HttpServletRequest request) {
+    public CompletableFuture<ResponseEntity<ApiResponse<List<TestDriveResponse>>>> getTestDrives(
+            HttpServletRequest request,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) List<String> fields) {
+        
         String userId = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
         
         log.info("Getting test drives for user: userId={}", userId);
-        List<TestDriveResponse> testDrives = testDriveService.getTestDrivesByUserId(userId);
-        return ResponseEntity.ok(ApiResponse.success(testDrives));
+        PageRequest pageRequest = PageRequest.of(limit, pageToken, fields);
+        return testDriveService.getTestDrivesByUserId(userId, pageRequest)
+                .thenApply(page -> ResponseEntity.ok(ApiResponse.success(page.items(), page.nextPageToken())));
     }
-}
 
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamTestDrives(
+            HttpServletRequest request,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) List<String> fields) {
+
+        String userId = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
+
+        log.info("Streaming test drives for user: userId={}", userId);
+        PageRequest pageRequest = PageRequest.of(limit, pageToken, fields, PageRequest.MAX_STREAM_LIMIT);
+        PageStream<TestDriveResponse> stream = testDriveService.streamTestDrivesByUserId(userId, pageRequest);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(StreamingResponses.page(objectMapper, stream));
+    }
+}
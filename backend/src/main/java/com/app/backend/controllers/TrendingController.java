@@ -0,0 +1,55 @@
+package com.app.backend.controllers;
+
+import com.app.backend.catalog.Car;
+import com.app.backend.catalog.CatalogService;
+import com.app.backend.dtos.ApiResponse;
+import com.app.backend.dtos.TrendingItemResponse;
+import com.app.backend.popularity.PopularityDimension;
+import com.app.backend.popularity.PopularityService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/api/trending")
+public class TrendingController {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+
+    private final PopularityService popularityService;
+    private final CatalogService catalogService;
+
+    public TrendingController(PopularityService popularityService, CatalogService catalogService) {
+        this.popularityService = popularityService;
+        this.catalogService = catalogService;
+    }
+
+    // Most active keys over the configured window (a week by default)
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<TrendingItemResponse>>> getTrending(
+            @RequestParam(required = false, defaultValue = "car") String dimension,
+            @RequestParam(required = false) Integer limit) {
+
+        PopularityDimension popularityDimension = PopularityDimension.fromParam(dimension);
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<TrendingItemResponse> items = popularityService.top(popularityDimension, size).stream()
+                .map(entry -> {
+                    Car car = popularityDimension == PopularityDimension.CAR
+                            ? catalogService.getCatalog().find(entry.key())
+                            : null;
+                    return TrendingItemResponse.builder()
+                            .key(entry.key())
+                            .count(entry.count())
+                            .title(car != null ? car.title() : null)
+                            .build();
+                })
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(items));
+    }
+}
@@ -0,0 +1,38 @@
+package com.app.backend.controllers;
+
+import com.app.backend.dtos.ApiResponse;
+import com.app.backend.dtos.SuggestionResponse;
+import com.app.backend.typeahead.SuggestionTrie;
+import com.app.backend.typeahead.TypeaheadService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/api/typeahead")
+public class TypeaheadController {
+
+    private static final int MAX_QUERY_LENGTH = 128;
+
+    private final TypeaheadService typeaheadService;
+
+    public TypeaheadController(TypeaheadService typeaheadService) {
+        this.typeaheadService = typeaheadService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        int size = limit == null ? SuggestionTrie.MAX_RESULTS : Math.max(1, Math.min(limit, SuggestionTrie.MAX_RESULTS));
+        return ResponseEntity.ok(ApiResponse.success(typeaheadService.suggest(q, size)));
+    }
+}
@@ -1,6 +1,7 @@
 package com.app.backend.controllers;
 
 import com.app.backend.dtos.ApiResponse;
+import com.app.backend.dtos.DashboardResponse;
 import com.app.backend.dtos.UserProfileRequest;
 import com.app.backend.dtos.UserProfileResponse;
 import com.app.backend.filters.FirebaseAuthFilter;
@@ -15,6 +16,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/v1/api/user")
@@ -27,25 +30,35 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserProfileResponse>> getCurrentUser(HttpServletRequest request) {
+    public CompletableFuture<ResponseEntity<ApiResponse<UserProfileResponse>>> getCurrentUser(HttpServletRequest request) {
         String uid = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
         String email = (String) request.getAttribute(FirebaseAuthFilter.USER_EMAIL_ATTRIBUTE);
         
         log.info("Getting user profile: uid={}", uid);
-        UserProfileResponse response = userService.getOrCreateUser(uid, email);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return userService.getOrCreateUser(uid, email)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
+    }
+
+    @GetMapping("/me/dashboard")
+    public CompletableFuture<ResponseEntity<ApiResponse<DashboardResponse>>> getDashboard(HttpServletRequest request) {
+        String uid = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
+        String email = (String) request.getAttribute(FirebaseAuthFilter.USER_EMAIL_ATTRIBUTE);
+
+        log.info("Getting dashboard: uid={}", uid);
+        return userService.getDashboard(uid, email)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
     }
 
     @PutMapping("/me")
-    public ResponseEntity<ApiResponse<UserProfileResponse>> updateCurrentUser(
+    public CompletableFuture<ResponseEntity<ApiResponse<UserProfileResponse>>> updateCurrentUser(
             HttpServletRequest request,
             @Valid @RequestBody UserProfileRequest profileRequest) {
         
         String uid = (String) request.getAttribute(FirebaseAuthFilter.USER_UID_ATTRIBUTE);
         
         log.info("Updating user profile: uid={}", uid);
-        UserProfileResponse response = userService.updateUser(uid, profileRequest);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return userService.updateUser(uid, profileRequest)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
     }
 }
 
@@ -15,6 +15,7 @@ public class ApiResponse<T> {
     private boolean success;
     private T data;
     private ErrorDetails error;
+    private String nextPageToken;
 
     public static <T> ApiResponse<T> success(T data) {
         return ApiResponse.<T>builder()
@@ -23,6 +24,14 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<T> success(T data, String nextPageToken) {
+        return ApiResponse.<T>builder()
+                .success(true)
+                .data(data)
+                .nextPageToken(nextPageToken)
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(String message, String code) {
         return ApiResponse.<T>builder()
                 .success(false)
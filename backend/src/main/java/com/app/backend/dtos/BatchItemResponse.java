@@ -0,0 +1,35 @@
+package com.app.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResponse<T> {
+    private int index;
+    private boolean success;
+    private T data;
+    private ErrorDetails error;
+
+    public static <T> BatchItemResponse<T> success(int index, T data) {
+        return BatchItemResponse.<T>builder()
+                .index(index)
+                .success(true)
+                .data(data)
+                .build();
+    }
+
+    public static <T> BatchItemResponse<T> error(int index, String message, String code) {
+        return BatchItemResponse.<T>builder()
+                .index(index)
+                .success(false)
+                .error(new ErrorDetails(message, code))
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.app.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CarSearchResponse {
+    private int total;
+    private List<String> ids;
+    // facet -> value -> number of cars, counted with the other facets' filters applied
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -0,0 +1,48 @@
+package com.app.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompositePartResponse {
+    public static final String STATUS_OK = "ok";
+    public static final String STATUS_ERROR = "error";
+    public static final String STATUS_TIMEOUT = "timeout";
+
+    private String status;
+    private Object data;
+    private ErrorDetails error;
+    // Until the part completed, or until the deadline for a part that timed out
+    private double latencyMs;
+
+    public static CompositePartResponse ok(Object data, double latencyMs) {
+        return CompositePartResponse.builder()
+                .status(STATUS_OK)
+                .data(data)
+                .latencyMs(latencyMs)
+                .build();
+    }
+
+    public static CompositePartResponse error(String message, String code, double latencyMs) {
+        return CompositePartResponse.builder()
+                .status(STATUS_ERROR)
+                .error(new ErrorDetails(message, code))
+                .latencyMs(latencyMs)
+                .build();
+    }
+
+    public static CompositePartResponse timeout(double latencyMs) {
+        return CompositePartResponse.builder()
+                .status(STATUS_TIMEOUT)
+                .error(new ErrorDetails("Deadline exceeded", "TIMEOUT"))
+                .latencyMs(latencyMs)
+                .build();
+    }
+}
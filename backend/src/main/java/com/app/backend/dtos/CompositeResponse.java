@@ -0,0 +1,22 @@
+package com.app.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompositeResponse {
+    // Keyed by part name, in request order
+    private Map<String, CompositePartResponse> parts;
+    // False when any part failed or missed the deadline
+    private boolean complete;
+    private double latencyMs;
+}
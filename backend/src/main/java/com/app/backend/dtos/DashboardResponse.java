@@ -0,0 +1,22 @@
+package com.app.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardResponse {
+    private UserProfileResponse profile;
+    private long interestCount;
+    private long testDriveCount;
+    private List<InterestResponse> recentInterests;
+    private List<TestDriveResponse> recentTestDrives;
+}
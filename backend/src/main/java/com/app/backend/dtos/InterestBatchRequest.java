@@ -0,0 +1,24 @@
+package com.app.backend.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestBatchRequest {
+
+    public static final int MAX_ITEMS = 500;
+
+    @NotEmpty(message = "At least one interest is required")
+    @Size(max = MAX_ITEMS, message = "At most 500 interests can be submitted at once")
+    private List<@Valid InterestRequest> interests;
+}
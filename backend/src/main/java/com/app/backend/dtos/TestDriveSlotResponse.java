@@ -0,0 +1,21 @@
+package com.app.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TestDriveSlotResponse {
+    // Send start back as preferredDate to book the slot
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private int remaining;
+}
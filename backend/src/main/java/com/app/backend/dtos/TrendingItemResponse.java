@@ -0,0 +1,20 @@
+package com.app.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TrendingItemResponse {
+    // carId, carOwner, dealerId or city depending on the dimension
+    private String key;
+    private long count;
+    // Car title from the catalog, for the car dimension
+    private String title;
+}
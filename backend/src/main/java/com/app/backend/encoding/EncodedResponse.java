@@ -0,0 +1,6 @@
+package com.app.backend.encoding;
+
+// A serialized JSON body kept for reuse. gzip is null when the body is below the compression
+// threshold. The ETag is derived from the identity bytes.
+public record EncodedResponse(byte[] identity, byte[] gzip, String etag) {
+}
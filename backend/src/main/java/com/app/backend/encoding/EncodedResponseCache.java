@@ -0,0 +1,44 @@
+package com.app.backend.encoding;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Encoded bodies for one immutable data snapshot; the owner clears it when the snapshot changes.
+// Holds the maxEntries most recently used bodies. Bodies are encoded outside the lock, so two
+// concurrent misses on one key may both encode it.
+public final class EncodedResponseCache {
+
+    private final int maxEntries;
+    private final Map<String, EncodedResponse> entries;
+
+    public EncodedResponseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EncodedResponse> eldest) {
+                return size() > EncodedResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    public EncodedResponse get(String key, Supplier<EncodedResponse> encoder) {
+        synchronized (entries) {
+            EncodedResponse cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        EncodedResponse encoded = encoder.get();
+        synchronized (entries) {
+            entries.putIfAbsent(key, encoded);
+        }
+        return encoded;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.app.backend.encoding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+// Replaces Boot's default Jackson converter so every JSON body reports its serialization time
+// and size per endpoint. Bytes are counted before Tomcat's response compression.
+@Component
+public class MeteredJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+
+    private final ResponseMetrics responseMetrics;
+
+    public MeteredJacksonHttpMessageConverter(ObjectMapper objectMapper, ResponseMetrics responseMetrics) {
+        super(objectMapper);
+        this.responseMetrics = responseMetrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        String endpoint = currentEndpoint();
+        CountingOutputMessage counting = new CountingOutputMessage(outputMessage);
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, counting);
+        } finally {
+            responseMetrics.serializationTimer(endpoint).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            responseMetrics.recordBytes(endpoint, ResponseMetrics.ENCODING_IDENTITY, counting.bytes);
+        }
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object pattern = attributes != null
+                ? attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        return pattern != null ? pattern.toString() : UNKNOWN_ENDPOINT;
+    }
+
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+        private final HttpOutputMessage delegate;
+        private long bytes;
+
+        CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(delegate.getBody()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    bytes++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    bytes += len;
+                }
+            };
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.app.backend.encoding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Serializes immutable payloads once and serves the stored bytes with gzip negotiation and
+// ETag / If-None-Match revalidation. Other responses go through Jackson and Tomcat compression.
+@Component
+public class ResponseEncoder {
+
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private final ObjectMapper objectMapper;
+    private final ResponseMetrics responseMetrics;
+    private final int compressionThreshold;
+
+    public ResponseEncoder(
+            ObjectMapper objectMapper,
+            ResponseMetrics responseMetrics,
+            @Value("${server.compression.min-response-size:2KB}") DataSize compressionThreshold) {
+        this.objectMapper = objectMapper;
+        this.responseMetrics = responseMetrics;
+        this.compressionThreshold = Math.toIntExact(compressionThreshold.toBytes());
+    }
+
+    public EncodedResponse encode(String endpoint, Object body) {
+        long start = System.nanoTime();
+        byte[] identity;
+        try {
+            identity = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response for " + endpoint, e);
+        }
+        byte[] gzip = identity.length >= compressionThreshold ? gzip(identity) : null;
+        EncodedResponse encoded = new EncodedResponse(identity, gzip, etag(identity));
+        responseMetrics.serializationTimer(endpoint).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return encoded;
+    }
+
+    public ResponseEntity<byte[]> respond(HttpServletRequest request, String endpoint, EncodedResponse encoded) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        // Clients may reuse the body but must revalidate, which costs a 304 at most
+        headers.setCacheControl("no-cache");
+
+        boolean useGzip = encoded.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = useGzip ? withSuffix(encoded.etag()) : encoded.etag();
+        headers.setETag(etag);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), encoded.etag())) {
+            responseMetrics.recordBytes(endpoint, ResponseMetrics.ENCODING_NOT_MODIFIED, 0);
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+        if (useGzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            responseMetrics.recordBytes(endpoint, ResponseMetrics.ENCODING_GZIP, encoded.gzip().length);
+            return new ResponseEntity<>(encoded.gzip(), headers, HttpStatus.OK);
+        }
+        responseMetrics.recordBytes(endpoint, ResponseMetrics.ENCODING_IDENTITY, encoded.identity().length);
+        return new ResponseEntity<>(encoded.identity(), headers, HttpStatus.OK);
+    }
+
+    // Either representation's tag revalidates, since both carry the same content
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String gzipEtag = withSuffix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equals("gzip") || parts[0].trim().equals("*")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String withSuffix(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
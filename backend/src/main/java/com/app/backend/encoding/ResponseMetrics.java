@@ -0,0 +1,46 @@
+package com.app.backend.encoding;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-endpoint body size and serialization time. Meters are cached by tag values so the
+// hot path is a map lookup rather than a registry lookup.
+@Component
+public class ResponseMetrics {
+
+    public static final String ENCODING_IDENTITY = "identity";
+    public static final String ENCODING_GZIP = "gzip";
+    public static final String ENCODING_NOT_MODIFIED = "not-modified";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> bodySizes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> serializationTimers = new ConcurrentHashMap<>();
+
+    public ResponseMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordBytes(String endpoint, String encoding, long bytes) {
+        bodySizes.computeIfAbsent(endpoint + ' ' + encoding, key -> DistributionSummary
+                        .builder("http.server.response.body")
+                        .baseUnit("bytes")
+                        .description("Response body bytes written by the application, after any pre-compression")
+                        .tag("endpoint", endpoint)
+                        .tag("encoding", encoding)
+                        .register(meterRegistry))
+                .record(bytes);
+    }
+
+    public Timer serializationTimer(String endpoint) {
+        return serializationTimers.computeIfAbsent(endpoint, key -> Timer
+                .builder("http.server.response.serialization")
+                .description("Time spent serializing response bodies to JSON")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry));
+    }
+}
@@ -31,6 +31,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), "UNAUTHORIZED"));
     }
 
+    @ExceptionHandler(SlotUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSlotUnavailableException(SlotUnavailableException ex) {
+        log.info("Slot unavailable: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage(), "SLOT_UNAVAILABLE"));
+    }
+
     @ExceptionHandler(FirestoreOperationException.class)
     public ResponseEntity<ApiResponse<Void>> handleFirestoreOperationException(FirestoreOperationException ex) {
         log.error("Firestore operation failed: {}", ex.getMessage(), ex);
@@ -0,0 +1,8 @@
+package com.app.backend.exceptions;
+
+public class SlotUnavailableException extends RuntimeException {
+
+    public SlotUnavailableException(String message) {
+        super(message);
+    }
+}
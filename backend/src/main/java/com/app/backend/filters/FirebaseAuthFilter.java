@@ -1,11 +1,14 @@
 package com.app.backend.filters;
 
+import com.app.backend.auth.TokenVerifier;
+import com.app.backend.auth.VerifiedToken;
+import com.app.backend.auth.VerifiedTokenCache;
 import com.app.backend.dtos.ApiResponse;
 import com.app.backend.dtos.ErrorDetails;
+import com.app.backend.exceptions.UnauthorizedException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,7 +22,9 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -34,13 +39,37 @@ public class FirebaseAuthFilter implements Filter {
 
     private static final Set<String> PUBLIC_PATHS = Set.of(
             "/health",
-            "/actuator/health"
+            "/actuator/health",
+            "/v1/api/cars",
+            "/v1/api/search",
+            "/v1/api/typeahead",
+            "/v1/api/trending"
     );
 
-    private final ObjectMapper objectMapper;
+    // Read-only catalog data served from memory
+    private static final Set<String> PUBLIC_PATH_PREFIXES = Set.of(
+            "/v1/api/cars/",
+            "/v1/api/taxonomies/"
+    );
 
-    public FirebaseAuthFilter(ObjectMapper objectMapper) {
+    private final ObjectMapper objectMapper;
+    private final TokenVerifier tokenVerifier;
+    private final VerifiedTokenCache tokenCache;
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public FirebaseAuthFilter(
+            ObjectMapper objectMapper,
+            TokenVerifier tokenVerifier,
+            VerifiedTokenCache tokenCache,
+            MeterRegistry meterRegistry) {
         this.objectMapper = objectMapper;
+        this.tokenVerifier = tokenVerifier;
+        this.tokenCache = tokenCache;
+        this.cachedTimer = verificationTimer(meterRegistry, "cached");
+        this.verifiedTimer = verificationTimer(meterRegistry, "verified");
+        this.rejectedTimer = verificationTimer(meterRegistry, "rejected");
     }
 
     @Override
@@ -68,29 +97,49 @@ public class FirebaseAuthFilter implements Filter {
 
         String idToken = authHeader.substring(BEARER_PREFIX.length());
 
-        try {
-            // Verify the Firebase ID token
-            FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(idToken);
-            String uid = decodedToken.getUid();
-            String email = decodedToken.getEmail();
+        // Reuse a previously verified token, otherwise verify the Firebase ID token
+        long start = System.nanoTime();
+        VerifiedToken decodedToken = tokenCache.get(idToken);
+        if (decodedToken == null) {
+            try {
+                decodedToken = tokenVerifier.verify(idToken);
+            } catch (UnauthorizedException e) {
+                rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                log.warn("Firebase token verification failed: {}", e.getMessage());
+                sendUnauthorizedResponse(httpResponse, "Invalid or expired token");
+                return;
+            }
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            tokenCache.put(idToken, decodedToken);
+        } else {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        String uid = decodedToken.uid();
+        String email = decodedToken.email();
 
-            // Inject user info into request attributes
-            httpRequest.setAttribute(USER_UID_ATTRIBUTE, uid);
-            httpRequest.setAttribute(USER_EMAIL_ATTRIBUTE, email);
-            httpRequest.setAttribute(FIREBASE_TOKEN_ATTRIBUTE, decodedToken);
+        // Inject user info into request attributes
+        httpRequest.setAttribute(USER_UID_ATTRIBUTE, uid);
+        httpRequest.setAttribute(USER_EMAIL_ATTRIBUTE, email);
+        httpRequest.setAttribute(FIREBASE_TOKEN_ATTRIBUTE, decodedToken);
 
-            log.debug("Authenticated user: uid={}, email={}", uid, email);
+        log.debug("Authenticated user: uid={}, email={}", uid, email);
 
-            chain.doFilter(request, response);
-
-        } catch (FirebaseAuthException e) {
-            log.warn("Firebase token verification failed: {}", e.getMessage());
-            sendUnauthorizedResponse(httpResponse, "Invalid or expired token");
-        }
+        chain.doFilter(request, response);
     }
 
     private boolean isPublicPath(String path) {
-        return PUBLIC_PATHS.stream().anyMatch(path::equals);
+        return PUBLIC_PATHS.contains(path) || PUBLIC_PATH_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.token.verification")
+                .description("Time to resolve a bearer token, from cache or by verification")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
     }
 
     private void sendUnauthorizedResponse(HttpServletResponse response, String message) throws IOException {
@@ -0,0 +1,432 @@
+package com.app.backend.firestore;
+
+import com.app.backend.dtos.InterestResponse;
+import com.app.backend.dtos.TestDriveResponse;
+import com.app.backend.dtos.UserProfileRequest;
+import com.app.backend.dtos.UserProfileResponse;
+import com.app.backend.repository.InterestWrite;
+import com.app.backend.repository.UserActivity;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldPath;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Field-by-field conversion between Firestore documents and DTOs. Reads look fields up by
+// pre-built FieldPaths and decode only those, instead of getData(), which decodes every
+// field into a new map; the String-keyed getters would re-parse the dotted path on every
+// call. Writes still hand Firestore one map (set() takes a map or a reflectively mapped
+// POJO), but responses are built from the typed values.
+final class DocumentMapper {
+
+    static final String EMAIL = "email";
+    static final String NAME = "name";
+    static final String CITY = "city";
+    static final String ATTRIBUTES = "attributes";
+    static final String AUDIENCES = "audiences";
+    static final String AB_TEST_GROUP = "abTestGroup";
+    static final String USER_ID = "userId";
+    static final String CAR_ID = "carId";
+    static final String CAR_OWNER = "carOwner";
+    static final String DEALER_ID = "dealerId";
+    static final String PREFERRED_DATE = "preferredDate";
+    static final String STATUS = "status";
+    static final String CREATED_AT = "createdAt";
+    static final String UPDATED_AT = "updatedAt";
+    static final String ID = "id";
+    static final String INTEREST_COUNT = "interestCount";
+    static final String TEST_DRIVE_COUNT = "testDriveCount";
+    static final String RECENT_INTERESTS = "recentInterests";
+    static final String RECENT_TEST_DRIVES = "recentTestDrives";
+
+    private static final FieldPath EMAIL_PATH = FieldPath.of(EMAIL);
+    private static final FieldPath NAME_PATH = FieldPath.of(NAME);
+    private static final FieldPath CITY_PATH = FieldPath.of(CITY);
+    private static final FieldPath ATTRIBUTES_PATH = FieldPath.of(ATTRIBUTES);
+    private static final FieldPath AUDIENCES_PATH = FieldPath.of(AUDIENCES);
+    private static final FieldPath AB_TEST_GROUP_PATH = FieldPath.of(AB_TEST_GROUP);
+    private static final FieldPath USER_ID_PATH = FieldPath.of(USER_ID);
+    private static final FieldPath CAR_ID_PATH = FieldPath.of(CAR_ID);
+    private static final FieldPath CAR_OWNER_PATH = FieldPath.of(CAR_OWNER);
+    private static final FieldPath DEALER_ID_PATH = FieldPath.of(DEALER_ID);
+    private static final FieldPath PREFERRED_DATE_PATH = FieldPath.of(PREFERRED_DATE);
+    private static final FieldPath STATUS_PATH = FieldPath.of(STATUS);
+    private static final FieldPath CREATED_AT_PATH = FieldPath.of(CREATED_AT);
+    private static final FieldPath UPDATED_AT_PATH = FieldPath.of(UPDATED_AT);
+    private static final FieldPath INTEREST_COUNT_PATH = FieldPath.of(INTEREST_COUNT);
+    private static final FieldPath TEST_DRIVE_COUNT_PATH = FieldPath.of(TEST_DRIVE_COUNT);
+    private static final FieldPath RECENT_INTERESTS_PATH = FieldPath.of(RECENT_INTERESTS);
+    private static final FieldPath RECENT_TEST_DRIVES_PATH = FieldPath.of(RECENT_TEST_DRIVES);
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private DocumentMapper() {
+        // Utility class - prevent instantiation
+    }
+
+    // ==================== Users ====================
+
+    static Map<String, Object> userFields(String email, UserProfileRequest request, Timestamp now) {
+        Map<String, Object> fields = new HashMap<>(16);
+        fields.put(EMAIL, email);
+        fields.put(NAME, request.getName());
+        fields.put(CITY, request.getCity());
+        fields.put(ATTRIBUTES, request.getAttributes() != null ? request.getAttributes() : Map.of());
+        fields.put(AUDIENCES, request.getAudiences() != null ? request.getAudiences() : List.of());
+        fields.put(AB_TEST_GROUP, request.getAbTestGroup());
+        fields.put(CREATED_AT, now);
+        fields.put(UPDATED_AT, now);
+        return fields;
+    }
+
+    // Only the fields the request sets, plus updatedAt
+    static Map<String, Object> userUpdates(UserProfileRequest request, Timestamp now) {
+        Map<String, Object> updates = new HashMap<>(8);
+        if (request.getName() != null) {
+            updates.put(NAME, request.getName());
+        }
+        if (request.getCity() != null) {
+            updates.put(CITY, request.getCity());
+        }
+        if (request.getAttributes() != null) {
+            updates.put(ATTRIBUTES, request.getAttributes());
+        }
+        if (request.getAudiences() != null) {
+            updates.put(AUDIENCES, request.getAudiences());
+        }
+        if (request.getAbTestGroup() != null) {
+            updates.put(AB_TEST_GROUP, request.getAbTestGroup());
+        }
+        updates.put(UPDATED_AT, now);
+        return updates;
+    }
+
+    static UserProfileResponse toUserProfile(String uid, String email, UserProfileRequest request, Timestamp now) {
+        LocalDateTime at = toLocalDateTime(now);
+        return UserProfileResponse.builder()
+                .uid(uid)
+                .email(email)
+                .name(request.getName())
+                .city(request.getCity())
+                .attributes(request.getAttributes() != null ? request.getAttributes() : Map.of())
+                .audiences(request.getAudiences() != null ? request.getAudiences() : List.of())
+                .abTestGroup(request.getAbTestGroup())
+                .createdAt(at)
+                .updatedAt(at)
+                .build();
+    }
+
+    // Overlays the fields the request sets on the complete priorState
+    static UserProfileResponse mergeUserProfile(UserProfileResponse priorState, UserProfileRequest request, Timestamp now) {
+        UserProfileResponse.UserProfileResponseBuilder builder = priorState.toBuilder();
+
+        if (request.getName() != null) {
+            builder.name(request.getName());
+        }
+        if (request.getCity() != null) {
+            builder.city(request.getCity());
+        }
+        if (request.getAttributes() != null) {
+            builder.attributes(request.getAttributes());
+        }
+        if (request.getAudiences() != null) {
+            builder.audiences(request.getAudiences());
+        }
+        if (request.getAbTestGroup() != null) {
+            builder.abTestGroup(request.getAbTestGroup());
+        }
+        return builder
+                .updatedAt(toLocalDateTime(now))
+                .build();
+    }
+
+    static UserProfileResponse toUserProfile(DocumentSnapshot document) {
+        return UserProfileResponse.builder()
+                .uid(document.getId())
+                .email(string(document, EMAIL_PATH))
+                .name(string(document, NAME_PATH))
+                .city(string(document, CITY_PATH))
+                .attributes(attributes(document, ATTRIBUTES_PATH))
+                .audiences(strings(document, AUDIENCES_PATH))
+                .abTestGroup(string(document, AB_TEST_GROUP_PATH))
+                .createdAt(toLocalDateTime(timestamp(document, CREATED_AT_PATH)))
+                .updatedAt(toLocalDateTime(timestamp(document, UPDATED_AT_PATH)))
+                .build();
+    }
+
+    // ==================== Interests ====================
+
+    static Map<String, Object> interestFields(InterestWrite write) {
+        Map<String, Object> fields = new HashMap<>(8);
+        fields.put(USER_ID, write.userId());
+        fields.put(CAR_ID, write.carId());
+        fields.put(CAR_OWNER, write.carOwner());
+        fields.put(CREATED_AT, toTimestamp(write.createdAt()));
+        return fields;
+    }
+
+    static InterestResponse toInterest(InterestWrite write) {
+        return InterestResponse.builder()
+                .id(write.id())
+                .userId(write.userId())
+                .carId(write.carId())
+                .carOwner(write.carOwner())
+                .createdAt(toLocalDateTime(write.createdAt()))
+                .build();
+    }
+
+    static InterestResponse toInterest(DocumentSnapshot document) {
+        return InterestResponse.builder()
+                .id(document.getId())
+                .userId(string(document, USER_ID_PATH))
+                .carId(string(document, CAR_ID_PATH))
+                .carOwner(string(document, CAR_OWNER_PATH))
+                .createdAt(toLocalDateTime(timestamp(document, CREATED_AT_PATH)))
+                .build();
+    }
+
+    static InterestWrite toInterestWrite(DocumentSnapshot document) {
+        return new InterestWrite(
+                document.getId(),
+                string(document, USER_ID_PATH),
+                string(document, CAR_ID_PATH),
+                string(document, CAR_OWNER_PATH),
+                toInstant(timestamp(document, CREATED_AT_PATH)));
+    }
+
+    // ==================== Test Drives ====================
+
+    static Map<String, Object> testDriveFields(TestDriveWrite write) {
+        Map<String, Object> fields = new HashMap<>(16);
+        fields.put(USER_ID, write.userId());
+        fields.put(CAR_ID, write.carId());
+        fields.put(CAR_OWNER, write.carOwner());
+        fields.put(DEALER_ID, write.dealerId());
+        fields.put(PREFERRED_DATE, write.preferredDate());
+        fields.put(STATUS, write.status());
+        fields.put(CREATED_AT, write.createdAt());
+        return fields;
+    }
+
+    static TestDriveResponse toTestDrive(TestDriveWrite write) {
+        return TestDriveResponse.builder()
+                .id(write.id())
+                .userId(write.userId())
+                .carId(write.carId())
+                .carOwner(write.carOwner())
+                .dealerId(write.dealerId())
+                .preferredDate(toLocalDateTime(write.preferredDate()))
+                .status(write.status())
+                .createdAt(toLocalDateTime(write.createdAt()))
+                .build();
+    }
+
+    static TestDriveResponse toTestDrive(DocumentSnapshot document) {
+        return TestDriveResponse.builder()
+                .id(document.getId())
+                .userId(string(document, USER_ID_PATH))
+                .carId(string(document, CAR_ID_PATH))
+                .carOwner(string(document, CAR_OWNER_PATH))
+                .dealerId(string(document, DEALER_ID_PATH))
+                .preferredDate(toLocalDateTime(timestamp(document, PREFERRED_DATE_PATH)))
+                .status(string(document, STATUS_PATH))
+                .createdAt(toLocalDateTime(timestamp(document, CREATED_AT_PATH)))
+                .build();
+    }
+
+    static TestDriveWrite toTestDriveWrite(DocumentSnapshot document) {
+        return new TestDriveWrite(
+                document.getId(),
+                string(document, USER_ID_PATH),
+                string(document, CAR_ID_PATH),
+                string(document, CAR_OWNER_PATH),
+                string(document, DEALER_ID_PATH),
+                timestamp(document, PREFERRED_DATE_PATH),
+                string(document, STATUS_PATH),
+                timestamp(document, CREATED_AT_PATH));
+    }
+
+    // ==================== User Activity ====================
+
+    // The whole summary document. Recent items are embedded without userId, which is the
+    // document id; callers pass them newest first and already trimmed.
+    static Map<String, Object> activityFields(
+            long interestCount, long testDriveCount,
+            List<InterestWrite> recentInterests, List<TestDriveWrite> recentTestDrives, Timestamp now) {
+        List<Map<String, Object>> interests = new ArrayList<>(recentInterests.size());
+        for (InterestWrite write : recentInterests) {
+            Map<String, Object> entry = new HashMap<>(8);
+            entry.put(ID, write.id());
+            entry.put(CAR_ID, write.carId());
+            entry.put(CAR_OWNER, write.carOwner());
+            entry.put(CREATED_AT, toTimestamp(write.createdAt()));
+            interests.add(entry);
+        }
+        List<Map<String, Object>> testDrives = new ArrayList<>(recentTestDrives.size());
+        for (TestDriveWrite write : recentTestDrives) {
+            Map<String, Object> entry = new HashMap<>(16);
+            entry.put(ID, write.id());
+            entry.put(CAR_ID, write.carId());
+            entry.put(CAR_OWNER, write.carOwner());
+            entry.put(DEALER_ID, write.dealerId());
+            entry.put(PREFERRED_DATE, write.preferredDate());
+            entry.put(STATUS, write.status());
+            entry.put(CREATED_AT, write.createdAt());
+            testDrives.add(entry);
+        }
+
+        Map<String, Object> fields = new HashMap<>(8);
+        fields.put(INTEREST_COUNT, interestCount);
+        fields.put(TEST_DRIVE_COUNT, testDriveCount);
+        fields.put(RECENT_INTERESTS, interests);
+        fields.put(RECENT_TEST_DRIVES, testDrives);
+        fields.put(UPDATED_AT, now);
+        return fields;
+    }
+
+    // The summary with newly created items counted and merged into the recent lists.
+    // Callers pass only items that did not exist before, so the counts stay exact.
+    static Map<String, Object> mergeActivity(
+            DocumentSnapshot activity, List<InterestWrite> interests, List<TestDriveWrite> testDrives,
+            int limit, Timestamp now) {
+        return activityFields(
+                count(activity, INTEREST_COUNT_PATH) + interests.size(),
+                count(activity, TEST_DRIVE_COUNT_PATH) + testDrives.size(),
+                newestFirst(interests, recentInterests(activity), InterestWrite::id, InterestWrite::createdAt, limit),
+                newestFirst(testDrives, recentTestDrives(activity), TestDriveWrite::id, TestDriveWrite::createdAt, limit),
+                now);
+    }
+
+    static UserActivity toUserActivity(DocumentSnapshot activity, int limit) {
+        return new UserActivity(
+                count(activity, INTEREST_COUNT_PATH),
+                count(activity, TEST_DRIVE_COUNT_PATH),
+                recentInterests(activity).stream().limit(limit).map(DocumentMapper::toInterest).toList(),
+                recentTestDrives(activity).stream().limit(limit).map(DocumentMapper::toTestDrive).toList());
+    }
+
+    private static List<InterestWrite> recentInterests(DocumentSnapshot activity) {
+        List<InterestWrite> writes = new ArrayList<>();
+        if (activity.get(RECENT_INTERESTS_PATH) instanceof List<?> entries) {
+            for (Object value : entries) {
+                if (value instanceof Map<?, ?> entry && entry.get(ID) instanceof String id) {
+                    writes.add(new InterestWrite(
+                            id,
+                            activity.getId(),
+                            entry.get(CAR_ID) instanceof String carId ? carId : null,
+                            entry.get(CAR_OWNER) instanceof String carOwner ? carOwner : null,
+                            entry.get(CREATED_AT) instanceof Timestamp createdAt ? toInstant(createdAt) : null));
+                }
+            }
+        }
+        return writes;
+    }
+
+    private static List<TestDriveWrite> recentTestDrives(DocumentSnapshot activity) {
+        List<TestDriveWrite> writes = new ArrayList<>();
+        if (activity.get(RECENT_TEST_DRIVES_PATH) instanceof List<?> entries) {
+            for (Object value : entries) {
+                if (value instanceof Map<?, ?> entry && entry.get(ID) instanceof String id) {
+                    writes.add(new TestDriveWrite(
+                            id,
+                            activity.getId(),
+                            entry.get(CAR_ID) instanceof String carId ? carId : null,
+                            entry.get(CAR_OWNER) instanceof String carOwner ? carOwner : null,
+                            entry.get(DEALER_ID) instanceof String dealerId ? dealerId : null,
+                            entry.get(PREFERRED_DATE) instanceof Timestamp preferredDate ? preferredDate : null,
+                            entry.get(STATUS) instanceof String status ? status : null,
+                            entry.get(CREATED_AT) instanceof Timestamp createdAt ? createdAt : null));
+                }
+            }
+        }
+        return writes;
+    }
+
+    // Added and existing items, deduplicated by id, in the listing order (createdAt, id) descending
+    private static <T, C extends Comparable<? super C>> List<T> newestFirst(
+            List<T> added, List<T> existing, Function<T, String> id, Function<T, C> createdAt, int limit) {
+        Map<String, T> byId = new HashMap<>();
+        for (T item : existing) {
+            byId.put(id.apply(item), item);
+        }
+        for (T item : added) {
+            byId.put(id.apply(item), item);
+        }
+        return byId.values().stream()
+                .sorted(Comparator.comparing(createdAt, Comparator.nullsFirst(Comparator.<C>naturalOrder()))
+                        .thenComparing(id)
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static long count(DocumentSnapshot document, FieldPath field) {
+        return document.get(field) instanceof Number value ? value.longValue() : 0;
+    }
+
+    private static String string(DocumentSnapshot document, FieldPath field) {
+        return document.get(field) instanceof String value ? value : null;
+    }
+
+    private static Timestamp timestamp(DocumentSnapshot document, FieldPath field) {
+        return document.get(field) instanceof Timestamp value ? value : null;
+    }
+
+    // Entries with non-String keys are skipped
+    private static Map<String, Object> attributes(DocumentSnapshot document, FieldPath field) {
+        if (!(document.get(field) instanceof Map<?, ?> values)) {
+            return null;
+        }
+        Map<String, Object> attributes = HashMap.newHashMap(values.size());
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            if (entry.getKey() instanceof String key) {
+                attributes.put(key, entry.getValue());
+            }
+        }
+        return attributes;
+    }
+
+    // Non-String elements are skipped
+    private static List<String> strings(DocumentSnapshot document, FieldPath field) {
+        if (!(document.get(field) instanceof List<?> values)) {
+            return null;
+        }
+        List<String> strings = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value instanceof String string) {
+                strings.add(string);
+            }
+        }
+        return strings;
+    }
+
+    // ==================== Timestamps ====================
+
+    static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? toTimestamp(dateTime.atZone(ZONE).toInstant()) : null;
+    }
+
+    static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.ofTimeSecondsAndNanos(instant.getEpochSecond(), instant.getNano()) : null;
+    }
+
+    static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()) : null;
+    }
+
+    static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return toLocalDateTime(toInstant(timestamp));
+    }
+
+    static LocalDateTime toLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZONE) : null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.app.backend.firestore;
+
+// One Firestore call site, reported as the operation and collection metric tags
+public enum FirestoreOperation {
+    USER_SAVE("save", "users"),
+    USER_CREATE("create", "users"),
+    USER_GET("get", "users"),
+    USER_UPDATE("update", "users"),
+    USER_LISTEN("listen", "users"),
+    INTEREST_SAVE("save", "interests"),
+    INTEREST_BULK_SAVE("bulk_save", "interests"),
+    INTEREST_BATCH_WRITE("batch_write", "interests"),
+    INTEREST_LIST("list", "interests"),
+    INTEREST_STREAM("stream", "interests"),
+    INTEREST_FIND("find", "interests"),
+    TEST_DRIVE_SAVE("save", "test_drives"),
+    TEST_DRIVE_SLOT_TRANSACTION("transaction", "dealer_slots"),
+    TEST_DRIVE_LIST("list", "test_drives"),
+    TEST_DRIVE_STREAM("stream", "test_drives"),
+    TEST_DRIVE_FIND("find", "test_drives"),
+    DEALER_SLOT_LISTEN("listen", "dealer_slots"),
+    ACTIVITY_GET("get", "user_activity"),
+    ACTIVITY_REBUILD("rebuild", "user_activity");
+
+    private final String operation;
+    private final String collection;
+
+    FirestoreOperation(String operation, String collection) {
+        this.operation = operation;
+        this.collection = collection;
+    }
+
+    public String operation() {
+        return operation;
+    }
+
+    public String collection() {
+        return collection;
+    }
+}
@@ -0,0 +1,133 @@
+package com.app.backend.firestore;
+
+import com.app.backend.exceptions.FirestoreOperationException;
+import com.app.backend.repository.PageRequest;
+import com.app.backend.repository.PageStream;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+// Pulls a page of documents from Firestore in chunks on the consuming thread, so a response
+// can be written without materializing the result set. The next chunk is only requested once
+// the consumer has caught up, so at most one chunk is held in memory however slow the client.
+// Waiting for a chunk blocks the consuming thread, which is only cheap on a virtual thread;
+// fetchTimeout caps the total wait across the stream, not per chunk, so a stream holds a
+// platform thread on Firestore for at most that long.
+class FirestorePageStream<T> implements PageStream<T> {
+
+    private static final int CHUNK_SIZE = 50;
+
+    private final Query query;
+    private final int limit;
+    private final Function<Query, CompletableFuture<QuerySnapshot>> fetch;
+    private final Function<DocumentSnapshot, T> mapper;
+    private long fetchBudgetNanos;
+
+    private Iterator<QueryDocumentSnapshot> chunk = Collections.emptyIterator();
+    private DocumentSnapshot lastFetched;
+    private int requested;
+    private boolean exhausted;
+    private int delivered;
+    private DocumentSnapshot lastDelivered;
+    private boolean hasMore;
+    private boolean finished;
+
+    // query is ordered by createdAt and document id; fetch issues one chunk of it
+    FirestorePageStream(
+            Query query,
+            int limit,
+            Function<Query, CompletableFuture<QuerySnapshot>> fetch,
+            Function<DocumentSnapshot, T> mapper,
+            Duration fetchTimeout) {
+        this.query = query;
+        this.limit = limit;
+        this.fetch = fetch;
+        this.mapper = mapper;
+        this.fetchBudgetNanos = fetchTimeout.toNanos();
+    }
+
+    @Override
+    public T next() {
+        if (finished) {
+            return null;
+        }
+        if (!chunk.hasNext() && !exhausted) {
+            fetchChunk();
+        }
+        if (!chunk.hasNext()) {
+            finished = true;
+            return null;
+        }
+
+        DocumentSnapshot document = chunk.next();
+        if (delivered == limit) {
+            // The extra document only signals that another page exists
+            hasMore = true;
+            finished = true;
+            return null;
+        }
+        delivered++;
+        lastDelivered = document;
+        return mapper.apply(document);
+    }
+
+    @Override
+    public String nextPageToken() {
+        if (!hasMore || lastDelivered == null) {
+            return null;
+        }
+        return PageRequest.encodeToken(
+                DocumentMapper.toInstant(lastDelivered.getTimestamp("createdAt")), lastDelivered.getId());
+    }
+
+    private void fetchChunk() {
+        // One document past the limit tells whether another page exists; it rides along with
+        // the last chunk instead of costing a round trip of its own
+        int remaining = limit + 1 - requested;
+        int size = remaining <= CHUNK_SIZE + 1 ? remaining : CHUNK_SIZE;
+
+        Query chunkQuery = query;
+        if (lastFetched != null) {
+            chunkQuery = chunkQuery.startAfter(lastFetched.getTimestamp("createdAt"), lastFetched.getId());
+        }
+        List<QueryDocumentSnapshot> documents = await(fetch.apply(chunkQuery.limit(size))).getDocuments();
+
+        requested += size;
+        exhausted = documents.size() < size || requested > limit;
+        if (!documents.isEmpty()) {
+            lastFetched = documents.get(documents.size() - 1);
+        }
+        chunk = documents.iterator();
+    }
+
+    private QuerySnapshot await(CompletableFuture<QuerySnapshot> future) {
+        long start = System.nanoTime();
+        try {
+            return future.get(fetchBudgetNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            finished = true;
+            throw new FirestoreOperationException("Failed to stream documents", e.getCause());
+        } catch (TimeoutException e) {
+            finished = true;
+            future.cancel(true);
+            throw new FirestoreOperationException("Timed out waiting for Firestore stream");
+        } catch (InterruptedException e) {
+            finished = true;
+            Thread.currentThread().interrupt();
+            throw new FirestoreOperationException("Interrupted while streaming documents", e);
+        } finally {
+            fetchBudgetNanos -= System.nanoTime() - start;
+        }
+    }
+}
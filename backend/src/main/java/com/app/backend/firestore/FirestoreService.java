@@ -1,5 +1,6 @@
 package com.app.backend.firestore;
 
+import com.app.backend.dtos.BatchItemResponse;
 import com.app.backend.dtos.InterestRequest;
 import com.app.backend.dtos.InterestResponse;
 import com.app.backend.dtos.TestDriveRequest;
@@ -8,290 +9,778 @@ import com.app.backend.dtos.UserProfileRequest;
 import com.app.backend.dtos.UserProfileResponse;
 import com.app.backend.exceptions.FirestoreOperationException;
 import com.app.backend.exceptions.ResourceNotFoundException;
+import com.app.backend.exceptions.SlotUnavailableException;
+import com.app.backend.metrics.FirestoreMetrics;
+import com.app.backend.repository.ActivityRepository;
+import com.app.backend.repository.DealerSlotChange;
+import com.app.backend.repository.InterestRepository;
+import com.app.backend.repository.InterestWrite;
+import com.app.backend.repository.Page;
+import com.app.backend.repository.PageRequest;
+import com.app.backend.repository.PageStream;
+import com.app.backend.repository.Registration;
+import com.app.backend.repository.TestDriveRepository;
+import com.app.backend.repository.UserActivity;
+import com.app.backend.repository.UserRepository;
+import com.app.backend.utils.FutureUtils;
 import com.google.api.core.ApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
 import com.google.cloud.Timestamp;
 import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentChange;
 import com.google.cloud.firestore.DocumentReference;
 import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.FieldValue;
 import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreException;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.Query;
 import com.google.cloud.firestore.QueryDocumentSnapshot;
-import com.google.cloud.firestore.QuerySnapshot;
-import com.google.cloud.firestore.WriteResult;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.Transaction;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Status;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.app.backend.utils.FutureUtils.unwrap;
 
 @Slf4j
 @Service
-public class FirestoreService {
+@ConditionalOnProperty(name = "repository.type", havingValue = "firestore", matchIfMissing = true)
+public class FirestoreService implements UserRepository, InterestRepository, TestDriveRepository, ActivityRepository {
 
     private static final String USERS_COLLECTION = "users";
     private static final String INTERESTS_COLLECTION = "interests";
     private static final String TEST_DRIVES_COLLECTION = "test_drives";
+    private static final String DEALER_SLOTS_COLLECTION = "dealer_slots";
+    private static final String USER_ACTIVITY_COLLECTION = "user_activity";
+    // Each interest also updates at most one summary, keeping a commit within 500 writes
+    private static final int MAX_INTERESTS_PER_TRANSACTION = 250;
 
     private final Firestore firestore;
-
-    public FirestoreService(Firestore firestore) {
+    private final FirestoreMetrics firestoreMetrics;
+    private final Executor callbackExecutor;
+    private final int recentLimit;
+    private final Duration streamFetchTimeout;
+
+    public FirestoreService(
+            Firestore firestore,
+            FirestoreMetrics firestoreMetrics,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            @Value("${users.dashboard.recent-limit:10}") int recentLimit,
+            @Value("${firestore.stream.fetch-timeout:5s}") Duration streamFetchTimeout) {
         this.firestore = firestore;
+        this.firestoreMetrics = firestoreMetrics;
+        this.recentLimit = recentLimit;
+        this.streamFetchTimeout = streamFetchTimeout;
+        // With virtual threads, continuations leave the gRPC transport threads immediately
+        this.callbackExecutor = virtualThreadsEnabled
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("firestore-", 0).factory())
+                : MoreExecutors.directExecutor();
     }
 
     // ==================== User Operations ====================
 
-    public UserProfileResponse saveUser(String uid, String email, UserProfileRequest request) {
-        try {
-            DocumentReference docRef = firestore.collection(USERS_COLLECTION).document(uid);
-            Timestamp now = Timestamp.now();
+    public CompletableFuture<UserProfileResponse> saveUser(String uid, String email, UserProfileRequest request) {
+        DocumentReference docRef = firestore.collection(USERS_COLLECTION).document(uid);
+        Timestamp now = Timestamp.now();
+
+        Map<String, Object> userData = DocumentMapper.userFields(email, request, now);
+
+        return call(FirestoreOperation.USER_SAVE, () -> docRef.set(userData))
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to save user: uid={}", uid, unwrap(e));
+                    return failed("Failed to save user", e);
+                })
+                .thenApply(result -> {
+                    log.info("User saved successfully: uid={}", uid);
+                    return DocumentMapper.toUserProfile(uid, email, request, now);
+                });
+    }
+
+    // Creates the user only if the document does not exist yet. Returns the stored profile
+    // either way, so concurrent first sign-ins never overwrite createdAt.
+    @Override
+    public CompletableFuture<UserProfileResponse> createUserIfAbsent(String uid, String email, UserProfileRequest request) {
+        DocumentReference docRef = firestore.collection(USERS_COLLECTION).document(uid);
+        Timestamp now = Timestamp.now();
+
+        Map<String, Object> userData = DocumentMapper.userFields(email, request, now);
+
+        return call(FirestoreOperation.USER_CREATE, () -> docRef.create(userData))
+                .thenApply(result -> {
+                    log.info("User created successfully: uid={}", uid);
+                    return DocumentMapper.toUserProfile(uid, email, request, now);
+                })
+                .exceptionallyCompose(e -> {
+                    if (hasStatus(e, StatusCode.Code.ALREADY_EXISTS, Status.Code.ALREADY_EXISTS)) {
+                        log.info("User already created elsewhere, reading it: uid={}", uid);
+                        return getUser(uid);
+                    }
+                    log.error("Failed to create user: uid={}", uid, unwrap(e));
+                    return failed("Failed to create user", e);
+                });
+    }
 
-            Map<String, Object> userData = new HashMap<>();
-            userData.put("email", email);
-            userData.put("name", request.getName());
-            userData.put("city", request.getCity());
-            userData.put("attributes", request.getAttributes() != null ? request.getAttributes() : new HashMap<>());
-            userData.put("audiences", request.getAudiences() != null ? request.getAudiences() : new ArrayList<>());
-            userData.put("abTestGroup", request.getAbTestGroup());
-            userData.put("createdAt", now);
-            userData.put("updatedAt", now);
-
-            ApiFuture<WriteResult> result = docRef.set(userData);
-            result.get(); // Wait for completion
-
-            log.info("User saved successfully: uid={}", uid);
-            return buildUserProfileResponse(uid, userData);
-
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Failed to save user: uid={}", uid, e);
-            Thread.currentThread().interrupt();
-            throw new FirestoreOperationException("Failed to save user", e);
+    @Override
+    public CompletableFuture<UserProfileResponse> getUser(String uid) {
+        DocumentReference docRef = firestore.collection(USERS_COLLECTION).document(uid);
+
+        return call(FirestoreOperation.USER_GET, docRef::get)
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to get user: uid={}", uid, unwrap(e));
+                    return failed("Failed to get user", e);
+                })
+                .thenApply(document -> {
+                    firestoreMetrics.recordDocumentsRead(FirestoreOperation.USER_GET, 1);
+                    if (!document.exists()) {
+                        throw new ResourceNotFoundException("User not found: " + uid);
+                    }
+
+                    log.info("User retrieved successfully: uid={}", uid);
+                    return DocumentMapper.toUserProfile(document);
+                });
+    }
+
+    // With a known priorState this is a single write: update() carries an implicit exists
+    // precondition, so a missing user fails with NOT_FOUND without a prior read, and the
+    // response overlays the applied fields on priorState. Otherwise the document is read and
+    // updated in one transaction, so the response is still the complete stored profile.
+    @Override
+    public CompletableFuture<UserProfileResponse> updateUser(
+            String uid, UserProfileRequest request, UserProfileResponse priorState) {
+        if (priorState == null) {
+            return readAndUpdateUser(uid, request);
         }
+        DocumentReference docRef = firestore.collection(USERS_COLLECTION).document(uid);
+        Timestamp now = Timestamp.now();
+
+        Map<String, Object> updates = DocumentMapper.userUpdates(request, now);
+
+        return call(FirestoreOperation.USER_UPDATE, () -> docRef.update(updates))
+                .exceptionallyCompose(e -> {
+                    if (isNotFound(e)) {
+                        return CompletableFuture.failedFuture(new ResourceNotFoundException("User not found: " + uid));
+                    }
+                    log.error("Failed to update user: uid={}", uid, unwrap(e));
+                    return failed("Failed to update user", e);
+                })
+                .thenApply(result -> {
+                    log.info("User updated successfully: uid={}", uid);
+                    return DocumentMapper.mergeUserProfile(priorState, request, now);
+                });
     }
 
-    public UserProfileResponse getUser(String uid) {
-        try {
-            DocumentReference docRef = firestore.collection(USERS_COLLECTION).document(uid);
-            ApiFuture<DocumentSnapshot> future = docRef.get();
-            DocumentSnapshot document = future.get();
+    private CompletableFuture<UserProfileResponse> readAndUpdateUser(String uid, UserProfileRequest request) {
+        DocumentReference docRef = firestore.collection(USERS_COLLECTION).document(uid);
 
+        Transaction.Function<UserProfileResponse> update = tx -> {
+            DocumentSnapshot document = tx.get(docRef).get();
+            firestoreMetrics.recordDocumentsRead(FirestoreOperation.USER_UPDATE, 1);
             if (!document.exists()) {
                 throw new ResourceNotFoundException("User not found: " + uid);
             }
-
-            Map<String, Object> data = document.getData();
-            log.info("User retrieved successfully: uid={}", uid);
-            return buildUserProfileResponse(uid, data);
-
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Failed to get user: uid={}", uid, e);
-            Thread.currentThread().interrupt();
-            throw new FirestoreOperationException("Failed to get user", e);
-        }
+            Timestamp now = Timestamp.now();
+            tx.update(docRef, DocumentMapper.userUpdates(request, now));
+            return DocumentMapper.mergeUserProfile(DocumentMapper.toUserProfile(document), request, now);
+        };
+
+        return call(FirestoreOperation.USER_UPDATE, () -> firestore.runTransaction(update))
+                .exceptionallyCompose(e -> {
+                    if (unwrap(e) instanceof ResourceNotFoundException notFound) {
+                        return CompletableFuture.failedFuture(notFound);
+                    }
+                    log.error("Failed to update user: uid={}", uid, unwrap(e));
+                    return failed("Failed to update user", e);
+                })
+                .thenApply(profile -> {
+                    log.info("User updated successfully: uid={}", uid);
+                    return profile;
+                });
     }
 
-    public UserProfileResponse updateUser(String uid, UserProfileRequest request) {
-        try {
-            DocumentReference docRef = firestore.collection(USERS_COLLECTION).document(uid);
-            
-            // Check if user exists
-            DocumentSnapshot existing = docRef.get().get();
-            if (!existing.exists()) {
-                throw new ResourceNotFoundException("User not found: " + uid);
-            }
+    // Invokes onChange with the latest profile (or null once deleted) whenever the user
+    // document changes, including writes made by other instances.
+    @Override
+    public Registration listenToUser(String uid, Consumer<UserProfileResponse> onChange) {
+        DocumentReference docRef = firestore.collection(USERS_COLLECTION).document(uid);
 
-            Map<String, Object> updates = new HashMap<>();
-            if (request.getName() != null) {
-                updates.put("name", request.getName());
-            }
-            if (request.getCity() != null) {
-                updates.put("city", request.getCity());
+        ListenerRegistration registration = docRef.addSnapshotListener(callbackExecutor, (snapshot, error) -> {
+            if (error != null) {
+                log.warn("User listener failed: uid={}", uid, error);
+                return;
             }
-            if (request.getAttributes() != null) {
-                updates.put("attributes", request.getAttributes());
+            firestoreMetrics.recordDocumentsRead(FirestoreOperation.USER_LISTEN, 1);
+            if (snapshot == null || !snapshot.exists()) {
+                onChange.accept(null);
+                return;
             }
-            if (request.getAudiences() != null) {
-                updates.put("audiences", request.getAudiences());
-            }
-            if (request.getAbTestGroup() != null) {
-                updates.put("abTestGroup", request.getAbTestGroup());
-            }
-            updates.put("updatedAt", Timestamp.now());
+            onChange.accept(DocumentMapper.toUserProfile(snapshot));
+        });
+        return registration::remove;
+    }
 
-            ApiFuture<WriteResult> result = docRef.update(updates);
-            result.get(); // Wait for completion
+    // ==================== Interest Operations ====================
 
-            log.info("User updated successfully: uid={}", uid);
-            return getUser(uid);
+    // Creates the interest and adds it to the user's activity summary in one transaction
+    @Override
+    public CompletableFuture<InterestResponse> saveInterest(String userId, InterestRequest request) {
+        DocumentReference docRef = firestore.collection(INTERESTS_COLLECTION).document();
+        InterestWrite write = newInterest(docRef.getId(), userId, request, Timestamp.now());
+        DocumentReference activityRef = activityRef(userId);
+
+        Transaction.Function<Void> save = tx -> {
+            DocumentSnapshot activity = tx.get(activityRef).get();
+            firestoreMetrics.recordDocumentsRead(FirestoreOperation.INTEREST_SAVE, 1);
+            tx.create(docRef, DocumentMapper.interestFields(write));
+            updateActivity(tx, activity, List.of(write), List.of());
+            return null;
+        };
+
+        return call(FirestoreOperation.INTEREST_SAVE, () -> firestore.runTransaction(save))
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to save interest for user: {}", userId, unwrap(e));
+                    return failed("Failed to save interest", e);
+                })
+                .thenApply(result -> {
+                    log.info("Interest saved successfully: id={}, userId={}", write.id(), userId);
+                    return DocumentMapper.toInterest(write);
+                });
+    }
 
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Failed to update user: uid={}", uid, e);
-            Thread.currentThread().interrupt();
-            throw new FirestoreOperationException("Failed to update user", e);
+    // Commits the interests in transactions of up to MAX_INTERESTS_PER_TRANSACTION, each
+    // also updating the activity summary, so the summary and the interests commit together.
+    // A chunk succeeds or fails as a whole; later chunks are still attempted.
+    @Override
+    public CompletableFuture<List<BatchItemResponse<InterestResponse>>> saveInterests(
+            String userId, List<InterestRequest> requests) {
+        CollectionReference collection = firestore.collection(INTERESTS_COLLECTION);
+        Timestamp now = Timestamp.now();
+        long start = System.nanoTime();
+
+        List<InterestWrite> writes = new ArrayList<>(requests.size());
+        for (InterestRequest request : requests) {
+            writes.add(newInterest(collection.document().getId(), userId, request, now));
         }
-    }
 
-    // ==================== Interest Operations ====================
+        // Chunks run one after another, so responses are appended in request order
+        List<BatchItemResponse<InterestResponse>> responses = new ArrayList<>(requests.size());
+        CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+        for (int from = 0; from < writes.size(); from += MAX_INTERESTS_PER_TRANSACTION) {
+            int chunkStart = from;
+            List<InterestWrite> chunk = writes.subList(from, Math.min(writes.size(), from + MAX_INTERESTS_PER_TRANSACTION));
+            result = result.thenCompose(ignored -> writeInterestChunk(chunk)
+                    .handle((done, e) -> {
+                        if (e != null) {
+                            log.warn("Failed to save interests in batch: userId={}, from={}, count={}",
+                                    userId, chunkStart, chunk.size(), unwrap(e));
+                        }
+                        for (int i = 0; i < chunk.size(); i++) {
+                            responses.add(e != null
+                                    ? BatchItemResponse.error(chunkStart + i, "Failed to save interest", "FIRESTORE_ERROR")
+                                    : BatchItemResponse.success(chunkStart + i, DocumentMapper.toInterest(chunk.get(i))));
+                        }
+                        return null;
+                    }));
+        }
 
-    public InterestResponse saveInterest(String userId, InterestRequest request) {
-        try {
-            CollectionReference collection = firestore.collection(INTERESTS_COLLECTION);
-            DocumentReference docRef = collection.document();
-            String interestId = docRef.getId();
-            Timestamp now = Timestamp.now();
+        return result
+                .thenApply(ignored -> {
+                    log.info("Interest batch saved: userId={}, requested={}, succeeded={}", userId, requests.size(),
+                            responses.stream().filter(BatchItemResponse::isSuccess).count());
+                    return responses;
+                })
+                .whenComplete((saved, e) -> firestoreMetrics.record(
+                        FirestoreOperation.INTEREST_BULK_SAVE, start, e != null));
+    }
 
-            Map<String, Object> interestData = new HashMap<>();
-            interestData.put("userId", userId);
-            interestData.put("carId", request.getCarId());
-            interestData.put("carOwner", request.getCarOwner());
-            interestData.put("createdAt", now);
+    // Assigns the document id and createdAt locally, without a network call
+    @Override
+    public InterestWrite prepareInterest(String userId, InterestRequest request) {
+        return newInterest(firestore.collection(INTERESTS_COLLECTION).document().getId(), userId, request, Timestamp.now());
+    }
 
-            ApiFuture<WriteResult> result = docRef.set(interestData);
-            result.get(); // Wait for completion
+    // Commits the writes in transactions of up to MAX_INTERESTS_PER_TRANSACTION, each also
+    // updating the affected activity summaries. Documents keep their pre-assigned ids and
+    // only missing ones are created, so replaying a batch after a partial failure or restart
+    // is idempotent and never counts an interest twice.
+    @Override
+    public CompletableFuture<Void> writeInterests(List<InterestWrite> writes) {
+        CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+        for (int from = 0; from < writes.size(); from += MAX_INTERESTS_PER_TRANSACTION) {
+            List<InterestWrite> chunk = writes.subList(from, Math.min(writes.size(), from + MAX_INTERESTS_PER_TRANSACTION));
+            result = result.thenCompose(ignored -> writeInterestChunk(chunk));
+        }
 
-            log.info("Interest saved successfully: id={}, userId={}", interestId, userId);
-            return buildInterestResponse(interestId, interestData);
+        return result
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to write {} interests", writes.size(), unwrap(e));
+                    return failed("Failed to write interests", e);
+                })
+                .thenApply(ignored -> {
+                    log.info("Interest batch committed: count={}", writes.size());
+                    return null;
+                });
+    }
 
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Failed to save interest for user: {}", userId, e);
-            Thread.currentThread().interrupt();
-            throw new FirestoreOperationException("Failed to save interest", e);
+    private CompletableFuture<Void> writeInterestChunk(List<InterestWrite> writes) {
+        CollectionReference collection = firestore.collection(INTERESTS_COLLECTION);
+        Map<String, List<InterestWrite>> writesByUser = new LinkedHashMap<>();
+        List<DocumentReference> refs = new ArrayList<>(writes.size() * 2);
+        for (InterestWrite write : writes) {
+            refs.add(collection.document(write.id()));
+            writesByUser.computeIfAbsent(write.userId(), userId -> new ArrayList<>()).add(write);
         }
+        for (String userId : writesByUser.keySet()) {
+            refs.add(activityRef(userId));
+        }
+
+        Transaction.Function<Void> write = tx -> {
+            List<DocumentSnapshot> snapshots = tx.getAll(refs.toArray(DocumentReference[]::new)).get();
+            firestoreMetrics.recordDocumentsRead(FirestoreOperation.INTEREST_BATCH_WRITE, snapshots.size());
+
+            Map<String, List<InterestWrite>> createdByUser = new HashMap<>();
+            Set<String> created = new HashSet<>();
+            for (int i = 0; i < writes.size(); i++) {
+                InterestWrite interest = writes.get(i);
+                if (!snapshots.get(i).exists() && created.add(interest.id())) {
+                    tx.create(refs.get(i), DocumentMapper.interestFields(interest));
+                    createdByUser.computeIfAbsent(interest.userId(), userId -> new ArrayList<>()).add(interest);
+                }
+            }
+            int i = writes.size();
+            for (String userId : writesByUser.keySet()) {
+                updateActivity(tx, snapshots.get(i++), createdByUser.getOrDefault(userId, List.of()), List.of());
+            }
+            return null;
+        };
+
+        return call(FirestoreOperation.INTEREST_BATCH_WRITE, () -> firestore.runTransaction(write));
     }
 
-    public List<InterestResponse> listInterestsByUserId(String userId) {
-        try {
-            CollectionReference collection = firestore.collection(INTERESTS_COLLECTION);
-            ApiFuture<QuerySnapshot> future = collection
-                    .whereEqualTo("userId", userId)
-                    .get();
+    @Override
+    public InterestResponse buildInterestResponse(InterestWrite write) {
+        return DocumentMapper.toInterest(write);
+    }
+
+    @Override
+    public CompletableFuture<Page<InterestResponse>> listInterestsByUserId(String userId, PageRequest pageRequest) {
+        return listPageByUserId(FirestoreOperation.INTEREST_LIST, INTERESTS_COLLECTION, userId, pageRequest, DocumentMapper::toInterest)
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to list interests for user: {}", userId, unwrap(e));
+                    return failed("Failed to list interests", e);
+                })
+                .thenApply(page -> {
+                    log.info("Retrieved {} interests for user: {}", page.items().size(), userId);
+                    return page;
+                });
+    }
 
-            QuerySnapshot querySnapshot = future.get();
-            List<InterestResponse> interests = new ArrayList<>();
+    @Override
+    public PageStream<InterestResponse> streamInterestsByUserId(String userId, PageRequest pageRequest) {
+        log.info("Streaming interests for user: {}", userId);
+        return streamPageByUserId(FirestoreOperation.INTEREST_STREAM, INTERESTS_COLLECTION, userId, pageRequest, DocumentMapper::toInterest);
+    }
+
+    @Override
+    public CompletableFuture<List<InterestResponse>> findInterestsByUserIdAndCarId(String userId, String carId, int limit) {
+        return findByUserIdAndCarId(FirestoreOperation.INTEREST_FIND, INTERESTS_COLLECTION, userId, carId, limit, DocumentMapper::toInterest)
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to find interests for user: {}, carId={}", userId, carId, unwrap(e));
+                    return failed("Failed to find interests", e);
+                });
+    }
+
+    // ==================== Test Drive Operations ====================
+
+    // Creates the test drive and adds it to the user's activity summary in one transaction
+    @Override
+    public CompletableFuture<TestDriveResponse> saveTestDrive(String userId, TestDriveRequest request) {
+        DocumentReference docRef = firestore.collection(TEST_DRIVES_COLLECTION).document();
+        TestDriveWrite write = newTestDrive(docRef.getId(), userId, request);
+        DocumentReference activityRef = activityRef(userId);
+
+        Transaction.Function<Void> save = tx -> {
+            DocumentSnapshot activity = tx.get(activityRef).get();
+            firestoreMetrics.recordDocumentsRead(FirestoreOperation.TEST_DRIVE_SAVE, 1);
+            tx.create(docRef, DocumentMapper.testDriveFields(write));
+            updateActivity(tx, activity, List.of(), List.of(write));
+            return null;
+        };
+
+        return call(FirestoreOperation.TEST_DRIVE_SAVE, () -> firestore.runTransaction(save))
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to save test drive for user: {}", userId, unwrap(e));
+                    return failed("Failed to save test drive", e);
+                })
+                .thenApply(result -> {
+                    log.info("Test drive saved successfully: id={}, userId={}", write.id(), userId);
+                    return DocumentMapper.toTestDrive(write);
+                });
+    }
 
-            for (QueryDocumentSnapshot document : querySnapshot.getDocuments()) {
-                interests.add(buildInterestResponse(document.getId(), document.getData()));
+    // Claims a place in the dealer slot starting at preferredDate, creates the test drive and
+    // updates the activity summary in one transaction, so two requests racing for the last
+    // place cannot both succeed.
+    // Fails with SlotUnavailableException when the slot already holds capacity bookings.
+    @Override
+    public CompletableFuture<TestDriveResponse> saveTestDriveInSlot(
+            String userId, TestDriveRequest request, int capacity) {
+        DocumentReference docRef = firestore.collection(TEST_DRIVES_COLLECTION).document();
+        TestDriveWrite write = newTestDrive(docRef.getId(), userId, request);
+        DocumentReference slotRef = firestore.collection(DEALER_SLOTS_COLLECTION)
+                .document(slotDocumentId(request.getDealerId(), write.preferredDate()));
+        DocumentReference activityRef = activityRef(userId);
+
+        Transaction.Function<Void> booking = tx -> {
+            // All reads precede the writes, as Firestore transactions require
+            List<DocumentSnapshot> snapshots = tx.getAll(slotRef, activityRef).get();
+            firestoreMetrics.recordDocumentsRead(FirestoreOperation.TEST_DRIVE_SLOT_TRANSACTION, 2);
+            DocumentSnapshot slot = snapshots.get(0);
+            Long booked = slot.exists() ? slot.getLong("count") : null;
+            long count = booked != null ? booked : 0;
+            if (count >= capacity) {
+                throw new SlotUnavailableException("Test drive slot is fully booked: dealerId="
+                        + request.getDealerId() + ", start=" + request.getPreferredDate());
             }
 
-            log.info("Retrieved {} interests for user: {}", interests.size(), userId);
-            return interests;
+            Map<String, Object> slotData = new HashMap<>();
+            slotData.put("dealerId", request.getDealerId());
+            slotData.put("slotStart", write.preferredDate());
+            slotData.put("count", count + 1);
+            slotData.put("testDriveIds", FieldValue.arrayUnion(write.id()));
+            tx.set(slotRef, slotData, SetOptions.merge());
+            tx.create(docRef, DocumentMapper.testDriveFields(write));
+            updateActivity(tx, snapshots.get(1), List.of(), List.of(write));
+            return null;
+        };
+
+        return call(FirestoreOperation.TEST_DRIVE_SLOT_TRANSACTION, () -> firestore.runTransaction(booking))
+                .exceptionallyCompose(e -> {
+                    if (unwrap(e) instanceof SlotUnavailableException unavailable) {
+                        return CompletableFuture.failedFuture(unavailable);
+                    }
+                    log.error("Failed to book test drive slot for user: {}", userId, unwrap(e));
+                    return failed("Failed to save test drive", e);
+                })
+                .thenApply(result -> {
+                    log.info("Test drive booked: id={}, userId={}, dealerId={}", write.id(), userId, request.getDealerId());
+                    return DocumentMapper.toTestDrive(write);
+                });
+    }
 
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Failed to list interests for user: {}", userId, e);
-            Thread.currentThread().interrupt();
-            throw new FirestoreOperationException("Failed to list interests", e);
-        }
+    // Streams booked counts of every dealer slot starting at or after from
+    @Override
+    public Registration listenToDealerSlots(Instant from, Consumer<DealerSlotChange> onChange) {
+        Query query = firestore.collection(DEALER_SLOTS_COLLECTION)
+                .whereGreaterThanOrEqualTo("slotStart", DocumentMapper.toTimestamp(from));
+
+        ListenerRegistration registration = query.addSnapshotListener(callbackExecutor, (snapshots, error) -> {
+            if (error != null) {
+                log.warn("Dealer slot listener failed", error);
+                return;
+            }
+            if (snapshots == null) {
+                return;
+            }
+            firestoreMetrics.recordDocumentsRead(FirestoreOperation.DEALER_SLOT_LISTEN, snapshots.getDocumentChanges().size());
+            for (DocumentChange change : snapshots.getDocumentChanges()) {
+                QueryDocumentSnapshot doc = change.getDocument();
+                String dealerId = doc.getString("dealerId");
+                Timestamp slotStart = doc.getTimestamp("slotStart");
+                if (dealerId == null || slotStart == null) {
+                    continue;
+                }
+                Long count = doc.getLong("count");
+                onChange.accept(new DealerSlotChange(
+                        dealerId,
+                        DocumentMapper.toInstant(slotStart),
+                        change.getType() == DocumentChange.Type.REMOVED || count == null ? 0 : count));
+            }
+        });
+        return registration::remove;
     }
 
-    // ==================== Test Drive Operations ====================
+    @Override
+    public CompletableFuture<Page<TestDriveResponse>> listTestDrivesByUserId(String userId, PageRequest pageRequest) {
+        return listPageByUserId(FirestoreOperation.TEST_DRIVE_LIST, TEST_DRIVES_COLLECTION, userId, pageRequest, DocumentMapper::toTestDrive)
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to list test drives for user: {}", userId, unwrap(e));
+                    return failed("Failed to list test drives", e);
+                })
+                .thenApply(page -> {
+                    log.info("Retrieved {} test drives for user: {}", page.items().size(), userId);
+                    return page;
+                });
+    }
 
-    public TestDriveResponse saveTestDrive(String userId, TestDriveRequest request) {
-        try {
-            CollectionReference collection = firestore.collection(TEST_DRIVES_COLLECTION);
-            DocumentReference docRef = collection.document();
-            String testDriveId = docRef.getId();
-            Timestamp now = Timestamp.now();
+    @Override
+    public PageStream<TestDriveResponse> streamTestDrivesByUserId(String userId, PageRequest pageRequest) {
+        log.info("Streaming test drives for user: {}", userId);
+        return streamPageByUserId(FirestoreOperation.TEST_DRIVE_STREAM, TEST_DRIVES_COLLECTION, userId, pageRequest, DocumentMapper::toTestDrive);
+    }
 
-            Map<String, Object> testDriveData = new HashMap<>();
-            testDriveData.put("userId", userId);
-            testDriveData.put("carId", request.getCarId());
-            testDriveData.put("carOwner", request.getCarOwner());
-            testDriveData.put("dealerId", request.getDealerId());
-            testDriveData.put("preferredDate", Timestamp.of(Date.from(request.getPreferredDate().atZone(ZoneId.systemDefault()).toInstant())));
-            testDriveData.put("status", "requested");
-            testDriveData.put("createdAt", now);
-
-            ApiFuture<WriteResult> result = docRef.set(testDriveData);
-            result.get(); // Wait for completion
-
-            log.info("Test drive saved successfully: id={}, userId={}", testDriveId, userId);
-            return buildTestDriveResponse(testDriveId, testDriveData);
-
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Failed to save test drive for user: {}", userId, e);
-            Thread.currentThread().interrupt();
-            throw new FirestoreOperationException("Failed to save test drive", e);
-        }
+    @Override
+    public CompletableFuture<List<TestDriveResponse>> findTestDrivesByUserIdAndCarId(String userId, String carId, int limit) {
+        return findByUserIdAndCarId(FirestoreOperation.TEST_DRIVE_FIND, TEST_DRIVES_COLLECTION, userId, carId, limit, DocumentMapper::toTestDrive)
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to find test drives for user: {}, carId={}", userId, carId, unwrap(e));
+                    return failed("Failed to find test drives", e);
+                });
     }
 
-    public List<TestDriveResponse> listTestDrivesByUserId(String userId) {
-        try {
-            CollectionReference collection = firestore.collection(TEST_DRIVES_COLLECTION);
-            ApiFuture<QuerySnapshot> future = collection
-                    .whereEqualTo("userId", userId)
-                    .get();
+    // ==================== User Activity Operations ====================
+
+    // One document read once the summary exists. A missing summary (a user from before
+    // summaries existed) is rebuilt from the collections in a transaction, so it is created
+    // complete or not at all.
+    @Override
+    public CompletableFuture<UserActivity> getUserActivity(String uid) {
+        DocumentReference activityRef = activityRef(uid);
+
+        return call(FirestoreOperation.ACTIVITY_GET, activityRef::get)
+                .thenCompose(activity -> {
+                    firestoreMetrics.recordDocumentsRead(FirestoreOperation.ACTIVITY_GET, 1);
+                    if (activity.exists()) {
+                        return CompletableFuture.completedFuture(DocumentMapper.toUserActivity(activity, recentLimit));
+                    }
+                    log.info("Rebuilding activity summary: uid={}", uid);
+                    return rebuildActivity(uid);
+                })
+                .exceptionallyCompose(e -> {
+                    log.error("Failed to get activity for user: {}", uid, unwrap(e));
+                    return failed("Failed to get user activity", e);
+                });
+    }
 
-            QuerySnapshot querySnapshot = future.get();
-            List<TestDriveResponse> testDrives = new ArrayList<>();
+    private CompletableFuture<UserActivity> rebuildActivity(String uid) {
+        DocumentReference activityRef = activityRef(uid);
+        Query recentInterests = buildPageQuery(INTERESTS_COLLECTION, uid, PageRequest.firstPage(recentLimit));
+        Query recentTestDrives = buildPageQuery(TEST_DRIVES_COLLECTION, uid, PageRequest.firstPage(recentLimit));
 
-            for (QueryDocumentSnapshot document : querySnapshot.getDocuments()) {
-                testDrives.add(buildTestDriveResponse(document.getId(), document.getData()));
+        Transaction.Function<UserActivity> rebuild = tx -> {
+            DocumentSnapshot existing = tx.get(activityRef).get();
+            if (existing.exists()) {
+                firestoreMetrics.recordDocumentsRead(FirestoreOperation.ACTIVITY_REBUILD, 1);
+                return DocumentMapper.toUserActivity(existing, recentLimit);
             }
 
-            log.info("Retrieved {} test drives for user: {}", testDrives.size(), userId);
-            return testDrives;
+            List<QueryDocumentSnapshot> interestDocuments = tx.get(recentInterests).get().getDocuments();
+            List<QueryDocumentSnapshot> testDriveDocuments = tx.get(recentTestDrives).get().getDocuments();
+            long interestCount = tx.get(userQuery(INTERESTS_COLLECTION, uid).count()).get().getCount();
+            long testDriveCount = tx.get(userQuery(TEST_DRIVES_COLLECTION, uid).count()).get().getCount();
+            firestoreMetrics.recordDocumentsRead(FirestoreOperation.ACTIVITY_REBUILD,
+                    1 + interestDocuments.size() + testDriveDocuments.size());
+
+            List<InterestWrite> interests = interestDocuments.stream()
+                    .limit(recentLimit)
+                    .map(DocumentMapper::toInterestWrite)
+                    .toList();
+            List<TestDriveWrite> testDrives = testDriveDocuments.stream()
+                    .limit(recentLimit)
+                    .map(DocumentMapper::toTestDriveWrite)
+                    .toList();
+            tx.create(activityRef, DocumentMapper.activityFields(
+                    interestCount, testDriveCount, interests, testDrives, Timestamp.now()));
+            return new UserActivity(
+                    interestCount,
+                    testDriveCount,
+                    interests.stream().map(DocumentMapper::toInterest).toList(),
+                    testDrives.stream().map(DocumentMapper::toTestDrive).toList());
+        };
+
+        return call(FirestoreOperation.ACTIVITY_REBUILD, () -> firestore.runTransaction(rebuild));
+    }
 
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Failed to list test drives for user: {}", userId, e);
-            Thread.currentThread().interrupt();
-            throw new FirestoreOperationException("Failed to list test drives", e);
+    // Adds newly created items to an existing summary within tx. A missing summary is left
+    // missing rather than created partially; the next dashboard read rebuilds it.
+    private void updateActivity(
+            Transaction tx, DocumentSnapshot activity, List<InterestWrite> interests, List<TestDriveWrite> testDrives) {
+        if (!activity.exists() || (interests.isEmpty() && testDrives.isEmpty())) {
+            return;
         }
+        tx.set(activity.getReference(),
+                DocumentMapper.mergeActivity(activity, interests, testDrives, recentLimit, Timestamp.now()));
+    }
+
+    private DocumentReference activityRef(String userId) {
+        return firestore.collection(USER_ACTIVITY_COLLECTION).document(userId);
     }
 
     // ==================== Helper Methods ====================
 
-    @SuppressWarnings("unchecked")
-    private UserProfileResponse buildUserProfileResponse(String uid, Map<String, Object> data) {
-        return UserProfileResponse.builder()
-                .uid(uid)
-                .email((String) data.get("email"))
-                .name((String) data.get("name"))
-                .city((String) data.get("city"))
-                .attributes((Map<String, Object>) data.get("attributes"))
-                .audiences((List<String>) data.get("audiences"))
-                .abTestGroup((String) data.get("abTestGroup"))
-                .createdAt(toLocalDateTime(data.get("createdAt")))
-                .updatedAt(toLocalDateTime(data.get("updatedAt")))
-                .build();
-    }
-
-    private InterestResponse buildInterestResponse(String id, Map<String, Object> data) {
-        return InterestResponse.builder()
-                .id(id)
-                .userId((String) data.get("userId"))
-                .carId((String) data.get("carId"))
-                .carOwner((String) data.get("carOwner"))
-                .createdAt(toLocalDateTime(data.get("createdAt")))
-                .build();
-    }
-
-    private TestDriveResponse buildTestDriveResponse(String id, Map<String, Object> data) {
-        return TestDriveResponse.builder()
-                .id(id)
-                .userId((String) data.get("userId"))
-                .carId((String) data.get("carId"))
-                .carOwner((String) data.get("carOwner"))
-                .dealerId((String) data.get("dealerId"))
-                .preferredDate(toLocalDateTime(data.get("preferredDate")))
-                .status((String) data.get("status"))
-                .createdAt(toLocalDateTime(data.get("createdAt")))
-                .build();
-    }
-
-    private LocalDateTime toLocalDateTime(Object timestamp) {
-        if (timestamp == null) {
-            return null;
+    private <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> apiFuture) {
+        return FutureUtils.toCompletableFuture(apiFuture, callbackExecutor);
+    }
+
+    // Issues the request and records its latency under operation once it completes
+    private <T> CompletableFuture<T> call(FirestoreOperation operation, Supplier<ApiFuture<T>> request) {
+        long start = System.nanoTime();
+        return toCompletableFuture(request.get())
+                .whenComplete((result, e) -> firestoreMetrics.record(operation, start, e != null));
+    }
+
+    private <T> CompletableFuture<Page<T>> listPageByUserId(
+            FirestoreOperation operation,
+            String collectionName,
+            String userId,
+            PageRequest pageRequest,
+            Function<DocumentSnapshot, T> mapper) {
+        Query query = buildPageQuery(collectionName, userId, pageRequest);
+
+        return call(operation, query::get)
+                .thenApply(querySnapshot -> {
+                    List<QueryDocumentSnapshot> documents = querySnapshot.getDocuments();
+                    firestoreMetrics.recordDocumentsRead(operation, documents.size());
+                    int pageSize = Math.min(documents.size(), pageRequest.limit());
+                    List<T> items = new ArrayList<>(pageSize);
+
+                    for (int i = 0; i < pageSize; i++) {
+                        items.add(mapper.apply(documents.get(i)));
+                    }
+
+                    String nextPageToken = null;
+                    if (documents.size() > pageRequest.limit()) {
+                        QueryDocumentSnapshot last = documents.get(pageSize - 1);
+                        nextPageToken = PageRequest.encodeToken(
+                                DocumentMapper.toInstant(last.getTimestamp("createdAt")), last.getId());
+                    }
+                    return new Page<>(items, nextPageToken);
+                });
+    }
+
+    private InterestWrite newInterest(String id, String userId, InterestRequest request, Timestamp now) {
+        return new InterestWrite(id, userId, request.getCarId(), request.getCarOwner(), DocumentMapper.toInstant(now));
+    }
+
+    private TestDriveWrite newTestDrive(String id, String userId, TestDriveRequest request) {
+        return new TestDriveWrite(
+                id,
+                userId,
+                request.getCarId(),
+                request.getCarOwner(),
+                request.getDealerId(),
+                DocumentMapper.toTimestamp(request.getPreferredDate()),
+                "requested",
+                Timestamp.now());
+    }
+
+    private <T> PageStream<T> streamPageByUserId(
+            FirestoreOperation operation,
+            String collectionName,
+            String userId,
+            PageRequest pageRequest,
+            Function<DocumentSnapshot, T> mapper) {
+        Query query = buildPageQuery(collectionName, userId, pageRequest);
+
+        // Each chunk is recorded as its own request under operation
+        return new FirestorePageStream<>(query, pageRequest.limit(), chunk -> call(operation, chunk::get)
+                .thenApply(querySnapshot -> {
+                    firestoreMetrics.recordDocumentsRead(operation, querySnapshot.size());
+                    return querySnapshot;
+                }), mapper, streamFetchTimeout);
+    }
+
+    // Newest first, served by the composite index userId ASC, carId ASC, createdAt DESC
+    private <T> CompletableFuture<List<T>> findByUserIdAndCarId(
+            FirestoreOperation operation,
+            String collectionName,
+            String userId,
+            String carId,
+            int limit,
+            Function<DocumentSnapshot, T> mapper) {
+        Query query = userQuery(collectionName, userId)
+                .whereEqualTo("carId", carId)
+                .orderBy("createdAt", Query.Direction.DESCENDING)
+                .orderBy(FieldPath.documentId(), Query.Direction.DESCENDING)
+                .limit(limit);
+
+        return call(operation, query::get)
+                .thenApply(querySnapshot -> {
+                    List<QueryDocumentSnapshot> documents = querySnapshot.getDocuments();
+                    firestoreMetrics.recordDocumentsRead(operation, documents.size());
+                    List<T> items = new ArrayList<>(documents.size());
+                    for (QueryDocumentSnapshot document : documents) {
+                        items.add(mapper.apply(document));
+                    }
+                    return items;
+                });
+    }
+
+    private Query userQuery(String collectionName, String userId) {
+        return firestore.collection(collectionName).whereEqualTo("userId", userId);
+    }
+
+    // Newest first, keyset-paginated on (createdAt, documentId). Requires the composite
+    // index userId ASC, createdAt DESC on the collection. Fetches one extra document to
+    // tell whether another page exists.
+    private Query buildPageQuery(String collectionName, String userId, PageRequest pageRequest) {
+        Query query = userQuery(collectionName, userId)
+                .orderBy("createdAt", Query.Direction.DESCENDING)
+                .orderBy(FieldPath.documentId(), Query.Direction.DESCENDING);
+
+        if (!pageRequest.fields().isEmpty()) {
+            // createdAt is always needed to build the next cursor
+            Set<String> fields = new LinkedHashSet<>(pageRequest.fields());
+            fields.add("createdAt");
+            query = query.select(fields.toArray(String[]::new));
         }
-        if (timestamp instanceof Timestamp ts) {
-            Instant instant = Instant.ofEpochSecond(ts.getSeconds(), ts.getNanos());
-            return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        if (pageRequest.startAfter() != null) {
+            query = query.startAfter(
+                    DocumentMapper.toTimestamp(pageRequest.startAfter().createdAt()), pageRequest.startAfter().documentId());
         }
-        return null;
+        return query.limit(pageRequest.limit() + 1);
     }
-}
 
+    private <T> CompletableFuture<T> failed(String message, Throwable e) {
+        return CompletableFuture.failedFuture(new FirestoreOperationException(message, unwrap(e)));
+    }
+
+    private boolean isNotFound(Throwable e) {
+        return hasStatus(e, StatusCode.Code.NOT_FOUND, Status.Code.NOT_FOUND);
+    }
+
+    private boolean hasStatus(Throwable e, StatusCode.Code apiCode, Status.Code grpcCode) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException
+                    && apiException.getStatusCode().getCode() == apiCode) {
+                return true;
+            }
+            if (cause instanceof FirestoreException firestoreException
+                    && firestoreException.getStatus() != null
+                    && firestoreException.getStatus().getCode() == grpcCode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Dealer ids are free text; encode them so a "/" cannot split the document path
+    private String slotDocumentId(String dealerId, Timestamp slotStart) {
+        return URLEncoder.encode(dealerId, StandardCharsets.UTF_8) + "_" + slotStart.getSeconds();
+    }
+}
@@ -0,0 +1,16 @@
+package com.app.backend.firestore;
+
+import com.google.cloud.Timestamp;
+
+// A test drive document with its id and timestamps assigned up front, so the response can be
+// built from the same values that are written
+public record TestDriveWrite(
+        String id,
+        String userId,
+        String carId,
+        String carOwner,
+        String dealerId,
+        Timestamp preferredDate,
+        String status,
+        Timestamp createdAt) {
+}
@@ -0,0 +1,140 @@
+package com.app.backend.ingest;
+
+import com.app.backend.repository.InterestWrite;
+import com.app.backend.storage.Records;
+import com.app.backend.storage.SegmentedLog;
+import com.app.backend.storage.SegmentedLog.Position;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Pending interest writes in a segmented log. One thread reads and commits; the committed
+// read position is persisted in a checkpoint file so unflushed records are replayed on
+// restart, and segments behind it are deleted.
+@Slf4j
+class InterestLog implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "interests-";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    record Batch(List<InterestWrite> writes, Position end) {
+    }
+
+    private final Path directory;
+    private final SegmentedLog records;
+    private final AtomicLong pending = new AtomicLong();
+
+    private volatile Position committed;
+
+    InterestLog(Path directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        this.committed = readCheckpoint();
+        this.records = new SegmentedLog(directory, SEGMENT_PREFIX, segmentSize, committed.segment());
+
+        long replay = records.count(committed);
+        pending.set(replay);
+        if (replay > 0) {
+            log.info("Replaying {} pending interest writes from {}", replay, directory);
+        }
+    }
+
+    long pending() {
+        return pending.get();
+    }
+
+    // Appends unless maxPending records are already waiting; the check and the append happen
+    // under the same lock, so concurrent callers cannot overshoot the cap
+    synchronized boolean append(InterestWrite write, long maxPending) {
+        if (pending.get() >= maxPending) {
+            return false;
+        }
+        records.append(encode(write));
+        pending.incrementAndGet();
+        return true;
+    }
+
+    void force() {
+        records.force();
+    }
+
+    Batch read(int maxRecords) {
+        List<InterestWrite> writes = new ArrayList<>(Math.min(maxRecords, 64));
+        Position end = records.read(committed, maxRecords, payload -> writes.add(decode(payload)));
+        return new Batch(writes, end);
+    }
+
+    // The committed records are stored in Firestore, so only the checkpoint needs to be durable
+    void commit(Batch batch) throws IOException {
+        writeCheckpoint(batch.end());
+        committed = batch.end();
+        pending.addAndGet(-batch.writes().size());
+        records.deleteBefore(batch.end().segment());
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+
+    private Position readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return new Position(0, 0);
+        }
+        String[] parts = Files.readString(checkpoint, StandardCharsets.US_ASCII).trim().split(" ");
+        return new Position(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    private void writeCheckpoint(Position position) throws IOException {
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temp, position.segment() + " " + position.offset(), StandardCharsets.US_ASCII,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private byte[] encode(InterestWrite write) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            Records.writeString(out, write.id());
+            Records.writeString(out, write.userId());
+            Records.writeString(out, write.carId());
+            Records.writeString(out, write.carOwner());
+            Records.writeInstant(out, write.createdAt());
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private InterestWrite decode(byte[] payload) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            return new InterestWrite(
+                    Records.readString(in),
+                    Records.readString(in),
+                    Records.readString(in),
+                    Records.readString(in),
+                    Records.readInstant(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.app.backend.ingest;
+
+import com.app.backend.repository.InterestRepository;
+import com.app.backend.repository.InterestWrite;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.app.backend.utils.FutureUtils.unwrap;
+
+// Acknowledges interests once appended to a local log and writes them to Firestore in
+// batches. On shutdown the backlog is drained to Firestore within drain-timeout; whatever
+// is left is replayed on restart, so the log directory must outlive the instance.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "interests.write-behind.enabled", havingValue = "true")
+public class InterestWriteBehindQueue {
+
+    // Firestore rejects commits with more than 500 writes
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long maxPending;
+    private final Duration forceInterval;
+    private final Duration drainTimeout;
+    private final InterestRepository interestRepository;
+    private final Counter flushedCounter;
+    private final Counter failedFlushCounter;
+    private final Counter rejectedCounter;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledThreadPoolExecutor flusher;
+    private final ScheduledExecutorService forcer;
+
+    private InterestLog interestLog;
+    private int consecutiveFailures;
+
+    public InterestWriteBehindQueue(
+            @Value("${interests.write-behind.directory:}") String directory,
+            @Value("${interests.write-behind.segment-size:8MB}") DataSize segmentSize,
+            @Value("${interests.write-behind.batch-size:200}") int batchSize,
+            @Value("${interests.write-behind.flush-interval:200ms}") Duration flushInterval,
+            @Value("${interests.write-behind.max-pending:100000}") long maxPending,
+            @Value("${interests.write-behind.force-interval:0}") Duration forceInterval,
+            @Value("${interests.write-behind.drain-timeout:8s}") Duration drainTimeout,
+            InterestRepository interestRepository,
+            MeterRegistry meterRegistry) {
+        // Acknowledged writes live only in this log until flushed; a directory on an in-memory
+        // filesystem (such as /tmp on Cloud Run) would lose them with the instance
+        if (directory.isBlank()) {
+            throw new IllegalStateException(
+                    "interests.write-behind.directory must point to a persistent volume when write-behind is enabled");
+        }
+        this.directory = Path.of(directory);
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.batchSize = Math.min(batchSize, MAX_BATCH_SIZE);
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.maxPending = maxPending;
+        this.forceInterval = forceInterval;
+        this.drainTimeout = drainTimeout;
+        this.interestRepository = interestRepository;
+        this.meterRegistry = meterRegistry;
+        this.flushedCounter = Counter.builder("interests.write.behind.flushed")
+                .register(meterRegistry);
+        this.failedFlushCounter = Counter.builder("interests.write.behind.flush.failures")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("interests.write.behind.rejected")
+                .description("Appends refused because the queue was full")
+                .register(meterRegistry);
+        this.flusher = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "interest-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A flush waiting out its backoff must not delay shutdown
+        this.flusher.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.forcer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "interest-write-behind-force");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        interestLog = new InterestLog(directory, segmentSize);
+        Gauge.builder("interests.write.behind.pending", interestLog, InterestLog::pending)
+                .register(meterRegistry);
+        flusher.schedule(this::flush, 0, TimeUnit.MILLISECONDS);
+        if (!forceInterval.isZero()) {
+            long millis = forceInterval.toMillis();
+            forcer.scheduleWithFixedDelay(this::force, millis, millis, TimeUnit.MILLISECONDS);
+        }
+        log.info("Interest write-behind queue started: directory={}, batchSize={}, flushInterval={}ms, "
+                        + "forceInterval={}, maxPending={}",
+                directory, batchSize, flushIntervalMillis, forceInterval, maxPending);
+    }
+
+    // Runs after the web server has stopped taking requests. Drains the backlog to Firestore
+    // within drainTimeout, which has to fit the platform's shutdown grace period.
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        flusher.shutdown();
+        forcer.shutdown();
+        boolean idle = flusher.awaitTermination(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        if (idle) {
+            drain(deadline);
+        }
+        interestLog.force();
+        if (interestLog.pending() > 0) {
+            log.error("Stopping with {} interest writes not yet in Firestore; they are replayed from {} on restart",
+                    interestLog.pending(), directory);
+        }
+        interestLog.close();
+    }
+
+    // Appends the write to the local log. Returns false when the queue is full so the
+    // caller can fall back to a synchronous write instead of growing the backlog.
+    public boolean offer(InterestWrite write) {
+        if (!interestLog.append(write, maxPending)) {
+            rejectedCounter.increment();
+            return false;
+        }
+        if (forceInterval.isZero()) {
+            interestLog.force();
+        }
+        return true;
+    }
+
+    private void drain(long deadline) {
+        try {
+            InterestLog.Batch batch = interestLog.read(batchSize);
+            while (!batch.writes().isEmpty() && remainingNanos(deadline) > 0) {
+                interestRepository.writeInterests(batch.writes()).get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+                interestLog.commit(batch);
+                flushedCounter.increment(batch.writes().size());
+                batch = interestLog.read(batchSize);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failedFlushCounter.increment();
+            log.warn("Failed to drain interest writes on shutdown", unwrap(e));
+        }
+    }
+
+    private void force() {
+        try {
+            interestLog.force();
+        } catch (RuntimeException e) {
+            log.warn("Failed to force interest write-behind log", e);
+        }
+    }
+
+    private static long remainingNanos(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private void flush() {
+        long delay = flushIntervalMillis;
+        try {
+            InterestLog.Batch batch = interestLog.read(batchSize);
+            while (!batch.writes().isEmpty()) {
+                interestRepository.writeInterests(batch.writes()).join();
+                interestLog.commit(batch);
+                flushedCounter.increment(batch.writes().size());
+                consecutiveFailures = 0;
+
+                // Keep draining while full batches are available
+                if (batch.writes().size() < batchSize) {
+                    break;
+                }
+                batch = interestLog.read(batchSize);
+            }
+        } catch (Exception e) {
+            consecutiveFailures++;
+            failedFlushCounter.increment();
+            delay = Math.min(MAX_BACKOFF_MILLIS, flushIntervalMillis << Math.min(consecutiveFailures, 10));
+            log.warn("Failed to flush interest writes, retrying in {}ms", delay, unwrap(e));
+        }
+
+        if (!flusher.isShutdown()) {
+            flusher.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.app.backend.metrics;
+
+import com.app.backend.firestore.FirestoreOperation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Latency and documents read per Firestore operation. Every meter is registered up front and
+// looked up by ordinal, so recording is a nanoTime delta and an array read.
+@Component
+public class FirestoreMetrics {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final Timer[] successTimers;
+    private final Timer[] errorTimers;
+    private final Counter[] documentsRead;
+
+    public FirestoreMetrics(MeterRegistry meterRegistry) {
+        FirestoreOperation[] operations = FirestoreOperation.values();
+        this.successTimers = new Timer[operations.length];
+        this.errorTimers = new Timer[operations.length];
+        this.documentsRead = new Counter[operations.length];
+
+        for (FirestoreOperation operation : operations) {
+            int i = operation.ordinal();
+            successTimers[i] = timer(meterRegistry, operation, OUTCOME_SUCCESS);
+            errorTimers[i] = timer(meterRegistry, operation, OUTCOME_ERROR);
+            documentsRead[i] = Counter.builder("firestore.documents.read")
+                    .description("Documents returned by Firestore reads, queries and listeners")
+                    .tag("operation", operation.operation())
+                    .tag("collection", operation.collection())
+                    .register(meterRegistry);
+        }
+    }
+
+    public void record(FirestoreOperation operation, long startNanos, boolean failed) {
+        Timer[] timers = failed ? errorTimers : successTimers;
+        timers[operation.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordDocumentsRead(FirestoreOperation operation, int count) {
+        if (count > 0) {
+            documentsRead[operation.ordinal()].increment(count);
+        }
+    }
+
+    // Percentiles come from a decaying HdrHistogram; the buckets let Prometheus aggregate p99
+    // across instances
+    private static Timer timer(MeterRegistry meterRegistry, FirestoreOperation operation, String outcome) {
+        return Timer.builder("firestore.operation")
+                .description("Latency of Firestore calls, from request to completion")
+                .tag("operation", operation.operation())
+                .tag("collection", operation.collection())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+}
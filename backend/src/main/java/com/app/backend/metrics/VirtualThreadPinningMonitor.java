@@ -0,0 +1,105 @@
+package com.app.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    private final Duration pinnedThreshold;
+    private final MeterRegistry meterRegistry;
+    private final Timer pinnedTimer;
+    private final Counter submitFailedCounter;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${threads.virtual.pinned-threshold:20ms}") Duration pinnedThreshold,
+            MeterRegistry meterRegistry) {
+        this.pinnedThreshold = pinnedThreshold;
+        this.meterRegistry = meterRegistry;
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier")
+                .register(meterRegistry);
+        this.submitFailedCounter = Counter.builder("jvm.threads.virtual.submit.failed")
+                .description("Virtual thread start or unpark attempts rejected by the scheduler")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        checkCarrierPinning();
+
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(pinnedThreshold).withStackTrace();
+            recordingStream.enable(SUBMIT_FAILED_EVENT);
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailedCounter.increment());
+            recordingStream.startAsync();
+            log.info("Virtual thread pinning monitor started: threshold={}", pinnedThreshold);
+        } catch (Exception e) {
+            log.warn("JFR unavailable, virtual thread pinning will not be reported: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String frame = pinningFrame(event.getStackTrace());
+        pinnedTimer.record(event.getDuration());
+        meterRegistry.counter("jvm.threads.virtual.pinned.sites", "frame", frame).increment();
+        log.warn("Virtual thread pinned for {}ms at {}", event.getDuration().toMillis(), frame);
+    }
+
+    // Reports the first application frame, falling back to the top of the stack
+    private String pinningFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame chosen = frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith("com.app.backend."))
+                .findFirst()
+                .orElse(frames.get(0));
+        return chosen.getMethod().getType().getName() + "." + chosen.getMethod().getName();
+    }
+
+    private void checkCarrierPinning() {
+        boolean synchronizedPins = Runtime.version().feature() < 24;
+        log.info("Virtual threads enabled: runtime={}, carrierParallelism={}, maxPoolSize={}",
+                Runtime.version(),
+                System.getProperty("jdk.virtualThreadScheduler.parallelism",
+                        String.valueOf(Runtime.getRuntime().availableProcessors())),
+                System.getProperty("jdk.virtualThreadScheduler.maxPoolSize", "256"));
+        if (synchronizedPins) {
+            log.warn("Blocking inside synchronized blocks or native frames pins carrier threads on this runtime; "
+                    + "pinned intervals over {} are reported as jvm.threads.virtual.pinned", pinnedThreshold);
+        }
+    }
+}
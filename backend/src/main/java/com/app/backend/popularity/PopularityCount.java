@@ -0,0 +1,4 @@
+package com.app.backend.popularity;
+
+public record PopularityCount(String key, long count) {
+}
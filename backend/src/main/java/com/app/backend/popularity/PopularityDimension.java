@@ -0,0 +1,20 @@
+package com.app.backend.popularity;
+
+import java.util.Locale;
+
+public enum PopularityDimension {
+    CAR, OWNER, DEALER, CITY;
+
+    public String param() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static PopularityDimension fromParam(String param) {
+        for (PopularityDimension dimension : values()) {
+            if (dimension.param().equalsIgnoreCase(param)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("dimension must be one of car, owner, dealer, city");
+    }
+}
@@ -0,0 +1,224 @@
+package com.app.backend.popularity;
+
+import com.app.backend.catalog.Car;
+import com.app.backend.catalog.CatalogService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Sliding-window demand counters fed by interest and test-drive creation. Buckets rotate on
+// wall-clock boundaries and the counters are checkpointed to disk so restarts keep the trend.
+@Slf4j
+@Service
+public class PopularityService {
+
+    private static final int CHECKPOINT_MAGIC = 0x504F5031;
+    private static final long MAX_TICK_MILLIS = 60_000;
+
+    private final boolean enabled;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final Path checkpointPath;
+    private final long checkpointIntervalMillis;
+    private final CatalogService catalogService;
+    private final Map<PopularityDimension, SlidingWindowCounter> counters = new EnumMap<>(PopularityDimension.class);
+    private final List<Runnable> rotationListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    private long currentBucket;
+
+    public PopularityService(
+            @Value("${popularity.enabled:true}") boolean enabled,
+            @Value("${popularity.bucket:1h}") Duration bucket,
+            @Value("${popularity.window:7d}") Duration window,
+            @Value("${popularity.max-keys:10000}") int maxKeys,
+            @Value("${popularity.checkpoint-path:/tmp/popularity/counters.bin}") String checkpointPath,
+            @Value("${popularity.checkpoint-interval:60s}") Duration checkpointInterval,
+            CatalogService catalogService,
+            MeterRegistry meterRegistry) {
+        if (bucket.isNegative() || bucket.isZero() || window.compareTo(bucket) < 0) {
+            throw new IllegalArgumentException("popularity.window must be at least one popularity.bucket");
+        }
+        this.enabled = enabled;
+        this.bucketMillis = bucket.toMillis();
+        this.bucketCount = Math.toIntExact(window.toMillis() / bucketMillis);
+        this.checkpointPath = Path.of(checkpointPath);
+        this.checkpointIntervalMillis = checkpointInterval.toMillis();
+        this.catalogService = catalogService;
+
+        for (PopularityDimension dimension : PopularityDimension.values()) {
+            SlidingWindowCounter counter = new SlidingWindowCounter(bucketCount, maxKeys);
+            counters.put(dimension, counter);
+            Gauge.builder("popularity.keys", counter, SlidingWindowCounter::size)
+                    .tag("dimension", dimension.param())
+                    .register(meterRegistry);
+            FunctionCounter.builder("popularity.keys.dropped", counter, SlidingWindowCounter::dropped)
+                    .tag("dimension", dimension.param())
+                    .description("Events for new keys refused because the dimension was full")
+                    .register(meterRegistry);
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "popularity");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        currentBucket = System.currentTimeMillis() / bucketMillis;
+        if (!enabled) {
+            return;
+        }
+        restore();
+        long tick = Math.min(bucketMillis, MAX_TICK_MILLIS);
+        scheduler.scheduleWithFixedDelay(this::tick, tick, tick, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::checkpoint,
+                checkpointIntervalMillis, checkpointIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Popularity counters started: bucket={}ms, buckets={}, checkpoint={}",
+                bucketMillis, bucketCount, checkpointPath);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        if (enabled) {
+            checkpoint();
+        }
+    }
+
+    // Keys are resolved from the catalog car rather than taken from the request body, so a
+    // client cannot fill a dimension with keys of its own. Unknown car ids are not counted.
+    public void recordInterest(String carId) {
+        Car car = catalogCar(carId);
+        if (car != null) {
+            recordCar(car);
+        }
+    }
+
+    public void recordTestDrive(String carId) {
+        Car car = catalogCar(carId);
+        if (car != null) {
+            recordCar(car);
+            increment(PopularityDimension.DEALER, car.dealerName());
+        }
+    }
+
+    public List<PopularityCount> top(PopularityDimension dimension, int limit) {
+        return counters.get(dimension).top(limit);
+    }
+
+    public long count(PopularityDimension dimension, String key) {
+        return counters.get(dimension).count(key);
+    }
+
+    public Duration window() {
+        return Duration.ofMillis(bucketMillis * bucketCount);
+    }
+
+    // Called on the popularity thread after every bucket rotation
+    public void addRotationListener(Runnable listener) {
+        rotationListeners.add(listener);
+    }
+
+    private Car catalogCar(String carId) {
+        return enabled && carId != null ? catalogService.getCatalog().find(carId) : null;
+    }
+
+    private void recordCar(Car car) {
+        increment(PopularityDimension.CAR, car.id());
+        increment(PopularityDimension.CITY, car.city());
+        increment(PopularityDimension.OWNER, car.dealerName());
+    }
+
+    private void increment(PopularityDimension dimension, String key) {
+        if (key != null && !key.isBlank()) {
+            counters.get(dimension).increment(key);
+        }
+    }
+
+    private void tick() {
+        try {
+            long bucket = System.currentTimeMillis() / bucketMillis;
+            if (bucket > currentBucket) {
+                advance(bucket - currentBucket);
+                currentBucket = bucket;
+                rotationListeners.forEach(Runnable::run);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to rotate popularity counters", e);
+        }
+    }
+
+    // Past a full window every bucket has expired, so more rotations change nothing
+    private void advance(long buckets) {
+        for (long i = 0; i < Math.min(buckets, bucketCount); i++) {
+            counters.values().forEach(SlidingWindowCounter::rotate);
+        }
+    }
+
+    private void checkpoint() {
+        try {
+            Files.createDirectories(checkpointPath.toAbsolutePath().getParent());
+            Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(CHECKPOINT_MAGIC);
+                out.writeLong(bucketMillis);
+                out.writeInt(bucketCount);
+                out.writeLong(currentBucket);
+                for (PopularityDimension dimension : PopularityDimension.values()) {
+                    counters.get(dimension).writeTo(out);
+                }
+            }
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to checkpoint popularity counters: path={}", checkpointPath, e);
+        }
+    }
+
+    private void restore() {
+        if (!Files.isRegularFile(checkpointPath)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointPath)))) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readLong() != bucketMillis || in.readInt() != bucketCount) {
+                log.warn("Ignoring popularity checkpoint written with different settings: path={}", checkpointPath);
+                return;
+            }
+            long savedBucket = in.readLong();
+            for (PopularityDimension dimension : PopularityDimension.values()) {
+                counters.get(dimension).readFrom(in);
+            }
+            // Catch up on the buckets that closed while the process was down
+            advance(Math.max(0, currentBucket - savedBucket));
+            log.info("Popularity counters restored: path={}, bucketsElapsed={}",
+                    checkpointPath, Math.max(0, currentBucket - savedBucket));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to restore popularity checkpoint, starting empty: path={}", checkpointPath, e);
+            counters.values().forEach(SlidingWindowCounter::clear);
+        }
+    }
+}
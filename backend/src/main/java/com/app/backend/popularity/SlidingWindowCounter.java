@@ -0,0 +1,145 @@
+package com.app.backend.popularity;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-key event counts over the last bucketCount buckets. The open bucket is a LongAdder so
+// concurrent increments never contend on one cache line; closed buckets sit in an int ring
+// and their sum is kept alongside, so reading a key's window total is O(1).
+final class SlidingWindowCounter {
+
+    private static final class Slot {
+        final LongAdder current = new LongAdder();
+        final int[] closed;
+        volatile long closedTotal;
+
+        Slot(int closedBuckets) {
+            this.closed = new int[closedBuckets];
+        }
+
+        long total() {
+            return closedTotal + current.sum();
+        }
+    }
+
+    private final int closedBuckets;
+    private final int maxKeys;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private int ringPosition;
+
+    SlidingWindowCounter(int bucketCount, int maxKeys) {
+        this.closedBuckets = bucketCount - 1;
+        this.maxKeys = maxKeys;
+    }
+
+    void increment(String key) {
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            // Bounded memory: new keys are refused until rotation prunes idle ones
+            if (slots.size() >= maxKeys) {
+                dropped.increment();
+                return;
+            }
+            slot = slots.computeIfAbsent(key, k -> new Slot(closedBuckets));
+        }
+        slot.current.increment();
+    }
+
+    long count(String key) {
+        Slot slot = slots.get(key);
+        return slot != null ? slot.total() : 0;
+    }
+
+    List<PopularityCount> top(int limit) {
+        PriorityQueue<PopularityCount> top = new PriorityQueue<>(limit + 1, (a, b) -> Long.compare(a.count(), b.count()));
+        slots.forEach((key, slot) -> {
+            long total = slot.total();
+            if (total > 0 && (top.size() < limit || total > top.peek().count())) {
+                top.add(new PopularityCount(key, total));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        });
+        List<PopularityCount> entries = new ArrayList<>(top);
+        entries.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return entries;
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    // Closes the open bucket and drops the oldest one. Keys with nothing left in the window are
+    // pruned; an increment racing with the prune can be lost, which is fine for trend counts.
+    synchronized void rotate() {
+        int position = ringPosition;
+        slots.forEach((key, slot) -> {
+            long closing = slot.current.sumThenReset();
+            if (closedBuckets == 0) {
+                if (closing == 0) {
+                    slots.remove(key, slot);
+                }
+                return;
+            }
+            int expired = slot.closed[position];
+            slot.closed[position] = (int) Math.min(Integer.MAX_VALUE, closing);
+            slot.closedTotal = slot.closedTotal - expired + slot.closed[position];
+            if (slot.closedTotal == 0) {
+                slots.remove(key, slot);
+            }
+        });
+        if (closedBuckets > 0) {
+            ringPosition = (position + 1) % closedBuckets;
+        }
+    }
+
+    // Closed buckets are written oldest first so the ring position does not need persisting
+    synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(slots.size());
+        for (Map.Entry<String, Slot> entry : slots.entrySet()) {
+            Slot slot = entry.getValue();
+            out.writeUTF(entry.getKey());
+            out.writeLong(slot.current.sum());
+            for (int i = 0; i < closedBuckets; i++) {
+                out.writeInt(slot.closed[(ringPosition + i) % closedBuckets]);
+            }
+        }
+    }
+
+    synchronized void clear() {
+        slots.clear();
+        ringPosition = 0;
+    }
+
+    synchronized void readFrom(DataInputStream in) throws IOException {
+        clear();
+        int keys = in.readInt();
+        for (int k = 0; k < keys; k++) {
+            String key = in.readUTF();
+            Slot slot = new Slot(closedBuckets);
+            slot.current.add(in.readLong());
+            long closedTotal = 0;
+            for (int i = 0; i < closedBuckets; i++) {
+                slot.closed[i] = in.readInt();
+                closedTotal += slot.closed[i];
+            }
+            slot.closedTotal = closedTotal;
+            if (slots.size() < maxKeys) {
+                slots.put(key, slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.app.backend.repository;
+
+
+import java.util.concurrent.CompletableFuture;
+
+// Per-user activity summaries behind the dashboard; selected with repository.type
+public interface ActivityRepository {
+
+    // Totals and the newest interests and test drives of the user; empty for a user without activity
+    CompletableFuture<UserActivity> getUserActivity(String uid);
+}
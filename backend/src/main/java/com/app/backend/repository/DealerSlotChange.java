@@ -0,0 +1,7 @@
+package com.app.backend.repository;
+
+import java.time.Instant;
+
+// Booked count of one dealer slot as seen by the slot listener; 0 when the slot was deleted
+public record DealerSlotChange(String dealerId, Instant slotStart, long count) {
+}
@@ -0,0 +1,32 @@
+package com.app.backend.repository;
+
+import com.app.backend.dtos.BatchItemResponse;
+import com.app.backend.dtos.InterestRequest;
+import com.app.backend.dtos.InterestResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Storage for interests, indexed by userId and listed newest first; selected with repository.type
+public interface InterestRepository {
+
+    CompletableFuture<InterestResponse> saveInterest(String userId, InterestRequest request);
+
+    // Items succeed or fail independently
+    CompletableFuture<List<BatchItemResponse<InterestResponse>>> saveInterests(String userId, List<InterestRequest> requests);
+
+    // Assigns the id and createdAt without storing anything
+    InterestWrite prepareInterest(String userId, InterestRequest request);
+
+    // Stores prepared writes under their pre-assigned ids, so replaying them is idempotent
+    CompletableFuture<Void> writeInterests(List<InterestWrite> writes);
+
+    InterestResponse buildInterestResponse(InterestWrite write);
+
+    CompletableFuture<Page<InterestResponse>> listInterestsByUserId(String userId, PageRequest pageRequest);
+
+    PageStream<InterestResponse> streamInterestsByUserId(String userId, PageRequest pageRequest);
+
+    // Up to limit of the user's interests in one car, newest first
+    CompletableFuture<List<InterestResponse>> findInterestsByUserIdAndCarId(String userId, String carId, int limit);
+}
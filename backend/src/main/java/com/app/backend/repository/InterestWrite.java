@@ -0,0 +1,8 @@
+package com.app.backend.repository;
+
+import java.time.Instant;
+
+// An interest document with its id and createdAt assigned up front, so the same write can
+// be acknowledged before it reaches storage and replayed idempotently afterwards.
+public record InterestWrite(String id, String userId, String carId, String carOwner, Instant createdAt) {
+}
@@ -0,0 +1,6 @@
+package com.app.backend.repository;
+
+import java.util.List;
+
+public record Page<T>(List<T> items, String nextPageToken) {
+}
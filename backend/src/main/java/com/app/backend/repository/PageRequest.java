@@ -0,0 +1,62 @@
+package com.app.backend.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+public record PageRequest(int limit, Cursor startAfter, List<String> fields) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 100;
+    // Streamed pages are not materialized, so they may be much larger
+    public static final int MAX_STREAM_LIMIT = 1000;
+
+    private static final Set<String> PROJECTABLE_FIELDS = Set.of(
+            "userId", "carId", "carOwner", "dealerId", "preferredDate", "status", "createdAt");
+
+    public record Cursor(Instant createdAt, String documentId) {
+    }
+
+    public static PageRequest firstPage(int limit) {
+        return new PageRequest(limit, null, List.of());
+    }
+
+    public static PageRequest of(Integer limit, String pageToken, List<String> fields) {
+        return of(limit, pageToken, fields, MAX_LIMIT);
+    }
+
+    public static PageRequest of(Integer limit, String pageToken, List<String> fields, int maxLimit) {
+        int pageSize = limit != null ? limit : DEFAULT_LIMIT;
+        if (pageSize < 1 || pageSize > maxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+        }
+        List<String> projection = fields != null ? List.copyOf(fields) : List.of();
+        for (String field : projection) {
+            if (!PROJECTABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+        return new PageRequest(pageSize, decodeToken(pageToken), projection);
+    }
+
+    public static String encodeToken(Instant createdAt, String documentId) {
+        String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + documentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeToken(String pageToken) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+            return new Cursor(createdAt, parts[2]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page token");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.app.backend.repository;
+
+import java.util.Iterator;
+
+// One page of a user's documents, consumed item by item on a single thread
+public interface PageStream<T> {
+
+    /**
+     * Returns the next item, or {@code null} once the page is exhausted.
+     */
+    T next();
+
+    /**
+     * Cursor for the following page, or {@code null} when this was the last one. Only
+     * meaningful once {@link #next()} has returned {@code null}.
+     */
+    String nextPageToken();
+
+    // A page that is already in memory
+    static <T> PageStream<T> of(Page<T> page) {
+        Iterator<T> items = page.items().iterator();
+        return new PageStream<>() {
+            @Override
+            public T next() {
+                return items.hasNext() ? items.next() : null;
+            }
+
+            @Override
+            public String nextPageToken() {
+                return page.nextPageToken();
+            }
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.backend.repository;
+
+// Handle of a change listener; closing it stops further callbacks
+@FunctionalInterface
+public interface Registration extends AutoCloseable {
+
+    @Override
+    void close();
+}
@@ -0,0 +1,29 @@
+package com.app.backend.repository;
+
+import com.app.backend.dtos.TestDriveRequest;
+import com.app.backend.dtos.TestDriveResponse;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+// Storage for test drives and dealer slot counts, indexed by userId; selected with repository.type
+public interface TestDriveRepository {
+
+    CompletableFuture<TestDriveResponse> saveTestDrive(String userId, TestDriveRequest request);
+
+    // Claims a place in the dealer slot starting at preferredDate and stores the test drive
+    // atomically. Fails with SlotUnavailableException once the slot holds capacity bookings.
+    CompletableFuture<TestDriveResponse> saveTestDriveInSlot(String userId, TestDriveRequest request, int capacity);
+
+    // Streams booked counts of every dealer slot starting at or after from
+    Registration listenToDealerSlots(Instant from, Consumer<DealerSlotChange> onChange);
+
+    CompletableFuture<Page<TestDriveResponse>> listTestDrivesByUserId(String userId, PageRequest pageRequest);
+
+    PageStream<TestDriveResponse> streamTestDrivesByUserId(String userId, PageRequest pageRequest);
+
+    // Up to limit of the user's test drives of one car, newest first
+    CompletableFuture<List<TestDriveResponse>> findTestDrivesByUserIdAndCarId(String userId, String carId, int limit);
+}
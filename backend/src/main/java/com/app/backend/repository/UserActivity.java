@@ -0,0 +1,14 @@
+package com.app.backend.repository;
+
+import com.app.backend.dtos.InterestResponse;
+import com.app.backend.dtos.TestDriveResponse;
+
+import java.util.List;
+
+// Per-user activity summary: totals and the newest items of each kind, newest first
+public record UserActivity(
+        long interestCount,
+        long testDriveCount,
+        List<InterestResponse> recentInterests,
+        List<TestDriveResponse> recentTestDrives) {
+}
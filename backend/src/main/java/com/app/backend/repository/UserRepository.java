@@ -0,0 +1,25 @@
+package com.app.backend.repository;
+
+import com.app.backend.dtos.UserProfileRequest;
+import com.app.backend.dtos.UserProfileResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+// Storage for user profiles; selected with repository.type
+public interface UserRepository {
+
+    // Creates the user only if it does not exist yet and returns the stored profile either way
+    CompletableFuture<UserProfileResponse> createUserIfAbsent(String uid, String email, UserProfileRequest request);
+
+    // Fails with ResourceNotFoundException when the user does not exist
+    CompletableFuture<UserProfileResponse> getUser(String uid);
+
+    // Applies the non-null request fields and returns the complete updated profile. A known
+    // priorState lets the implementation skip reading the stored one. Fails with
+    // ResourceNotFoundException for unknown users.
+    CompletableFuture<UserProfileResponse> updateUser(String uid, UserProfileRequest request, UserProfileResponse priorState);
+
+    // Invokes onChange with the latest profile (or null once deleted) whenever the user changes
+    Registration listenToUser(String uid, Consumer<UserProfileResponse> onChange);
+}
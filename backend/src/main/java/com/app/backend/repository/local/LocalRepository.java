@@ -0,0 +1,713 @@
+package com.app.backend.repository.local;
+
+import com.app.backend.dtos.BatchItemResponse;
+import com.app.backend.dtos.InterestRequest;
+import com.app.backend.dtos.InterestResponse;
+import com.app.backend.dtos.TestDriveRequest;
+import com.app.backend.dtos.TestDriveResponse;
+import com.app.backend.dtos.UserProfileRequest;
+import com.app.backend.dtos.UserProfileResponse;
+import com.app.backend.exceptions.ResourceNotFoundException;
+import com.app.backend.exceptions.SlotUnavailableException;
+import com.app.backend.repository.ActivityRepository;
+import com.app.backend.repository.DealerSlotChange;
+import com.app.backend.repository.InterestRepository;
+import com.app.backend.repository.InterestWrite;
+import com.app.backend.repository.Page;
+import com.app.backend.repository.PageRequest;
+import com.app.backend.repository.PageStream;
+import com.app.backend.repository.Registration;
+import com.app.backend.repository.TestDriveRepository;
+import com.app.backend.repository.UserActivity;
+import com.app.backend.repository.UserRepository;
+import com.app.backend.storage.SegmentedLog;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static com.app.backend.storage.Records.readInstant;
+import static com.app.backend.storage.Records.readString;
+import static com.app.backend.storage.Records.writeInstant;
+import static com.app.backend.storage.Records.writeString;
+
+// Embedded store for offline/edge deployments and load tests. Every write is appended to a
+// segmented memory-mapped log as the full document state and applied to in-memory maps;
+// userId secondary indexes keep each user's interests and test drives sorted newest first,
+// so pages are read without scanning, and per-user counters back the activity summary. The
+// log is replayed on startup and compacted when superseded user states outnumber the live
+// documents. One instance owns the directory.
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "repository.type", havingValue = "local")
+public class LocalRepository implements UserRepository, InterestRepository, TestDriveRepository, ActivityRepository {
+
+    private static final String SEGMENT_PREFIX = "store-";
+    private static final byte USER_RECORD = 1;
+    private static final byte INTEREST_RECORD = 2;
+    private static final byte TEST_DRIVE_RECORD = 3;
+
+    private static final String ID_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int ID_LENGTH = 20;
+    private static final TypeReference<Map<String, Object>> ATTRIBUTES_TYPE = new TypeReference<>() {
+    };
+
+    // Same order as the Firestore page query: createdAt DESC, document id DESC
+    private static final Comparator<IndexKey> NEWEST_FIRST = Comparator
+            .comparing(IndexKey::createdAt)
+            .thenComparing(IndexKey::id)
+            .reversed();
+
+    private record StoredUser(
+            String uid,
+            String email,
+            String name,
+            String city,
+            Map<String, Object> attributes,
+            List<String> audiences,
+            String abTestGroup,
+            Instant createdAt,
+            Instant updatedAt) {
+    }
+
+    private record StoredTestDrive(
+            String id,
+            String userId,
+            String carId,
+            String carOwner,
+            String dealerId,
+            Instant preferredDate,
+            String status,
+            Instant createdAt,
+            boolean slotted) {
+    }
+
+    private record IndexKey(Instant createdAt, String id) {
+    }
+
+    private record SlotKey(String dealerId, Instant start) {
+    }
+
+    private record SlotListener(Instant from, Consumer<DealerSlotChange> onChange) {
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean syncWrites;
+    private final int recentLimit;
+    private final ObjectMapper objectMapper;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final Map<String, StoredUser> users = new ConcurrentHashMap<>();
+    private final Map<String, InterestWrite> interests = new ConcurrentHashMap<>();
+    private final Map<String, StoredTestDrive> testDrives = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<IndexKey>> interestsByUser = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<IndexKey>> testDrivesByUser = new ConcurrentHashMap<>();
+    private final Map<String, Long> interestCounts = new ConcurrentHashMap<>();
+    private final Map<String, Long> testDriveCounts = new ConcurrentHashMap<>();
+    private final Map<SlotKey, Long> slotCounts = new ConcurrentHashMap<>();
+
+    private final Map<String, List<Consumer<UserProfileResponse>>> userListeners = new ConcurrentHashMap<>();
+    private final List<SlotListener> slotListeners = new CopyOnWriteArrayList<>();
+    // Listeners are called on one thread, in write order, like Firestore snapshot callbacks
+    private final ExecutorService listenerExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("local-store-listener").daemon().factory());
+
+    private SegmentedLog storeLog;
+
+    public LocalRepository(
+            @Value("${repository.local.directory:/tmp/autostacks-store}") String directory,
+            @Value("${repository.local.segment-size:64MB}") DataSize segmentSize,
+            @Value("${repository.local.sync-writes:false}") boolean syncWrites,
+            @Value("${users.dashboard.recent-limit:10}") int recentLimit,
+            ObjectMapper objectMapper) {
+        this.directory = Path.of(directory);
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.syncWrites = syncWrites;
+        this.recentLimit = recentLimit;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        long started = System.nanoTime();
+        storeLog = new SegmentedLog(directory, SEGMENT_PREFIX, segmentSize, 0);
+        long replayed = storeLog.count(storeLog.start());
+        storeLog.read(storeLog.start(), Integer.MAX_VALUE, this::apply);
+
+        int live = users.size() + interests.size() + testDrives.size();
+        if (replayed > 2L * live) {
+            storeLog.rewrite(liveRecords());
+        }
+        log.info("Local store opened: directory={}, users={}, interests={}, testDrives={}, records={}, took={}ms",
+                directory, users.size(), interests.size(), testDrives.size(), replayed,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        listenerExecutor.shutdown();
+        synchronized (this) {
+            storeLog.close();
+        }
+    }
+
+    // ==================== User Operations ====================
+
+    @Override
+    public synchronized CompletableFuture<UserProfileResponse> createUserIfAbsent(
+            String uid, String email, UserProfileRequest request) {
+        StoredUser existing = users.get(uid);
+        if (existing != null) {
+            return CompletableFuture.completedFuture(toResponse(existing));
+        }
+        Instant now = Instant.now();
+        StoredUser user = new StoredUser(
+                uid,
+                email,
+                request.getName(),
+                request.getCity(),
+                request.getAttributes() != null ? request.getAttributes() : Map.of(),
+                request.getAudiences() != null ? request.getAudiences() : List.of(),
+                request.getAbTestGroup(),
+                now,
+                now);
+        return store(() -> putUser(user)).thenApply(ignored -> toResponse(user));
+    }
+
+    @Override
+    public CompletableFuture<UserProfileResponse> getUser(String uid) {
+        StoredUser user = users.get(uid);
+        if (user == null) {
+            return CompletableFuture.failedFuture(new ResourceNotFoundException("User not found: " + uid));
+        }
+        return CompletableFuture.completedFuture(toResponse(user));
+    }
+
+    // The full stored state is at hand, so priorState is not needed to build the response
+    @Override
+    public synchronized CompletableFuture<UserProfileResponse> updateUser(
+            String uid, UserProfileRequest request, UserProfileResponse priorState) {
+        StoredUser current = users.get(uid);
+        if (current == null) {
+            return CompletableFuture.failedFuture(new ResourceNotFoundException("User not found: " + uid));
+        }
+        StoredUser updated = new StoredUser(
+                uid,
+                current.email(),
+                request.getName() != null ? request.getName() : current.name(),
+                request.getCity() != null ? request.getCity() : current.city(),
+                request.getAttributes() != null ? request.getAttributes() : current.attributes(),
+                request.getAudiences() != null ? request.getAudiences() : current.audiences(),
+                request.getAbTestGroup() != null ? request.getAbTestGroup() : current.abTestGroup(),
+                current.createdAt(),
+                Instant.now());
+        return store(() -> putUser(updated)).thenApply(ignored -> toResponse(updated));
+    }
+
+    @Override
+    public synchronized Registration listenToUser(String uid, Consumer<UserProfileResponse> onChange) {
+        List<Consumer<UserProfileResponse>> listeners =
+                userListeners.computeIfAbsent(uid, key -> new CopyOnWriteArrayList<>());
+        listeners.add(onChange);
+
+        StoredUser user = users.get(uid);
+        UserProfileResponse initial = user != null ? toResponse(user) : null;
+        listenerExecutor.execute(() -> onChange.accept(initial));
+        return () -> listeners.remove(onChange);
+    }
+
+    // ==================== Interest Operations ====================
+
+    @Override
+    public CompletableFuture<InterestResponse> saveInterest(String userId, InterestRequest request) {
+        InterestWrite write = prepareInterest(userId, request);
+        return store(() -> putInterest(write)).thenApply(ignored -> buildInterestResponse(write));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchItemResponse<InterestResponse>>> saveInterests(
+            String userId, List<InterestRequest> requests) {
+        List<BatchItemResponse<InterestResponse>> responses = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            InterestWrite write = prepareInterest(userId, requests.get(i));
+            try {
+                synchronized (this) {
+                    putInterest(write);
+                }
+                responses.add(BatchItemResponse.success(i, buildInterestResponse(write)));
+            } catch (RuntimeException e) {
+                log.warn("Failed to save interest in batch: userId={}, index={}", userId, i, e);
+                responses.add(BatchItemResponse.error(i, "Failed to save interest", "STORAGE_ERROR"));
+            }
+        }
+        return CompletableFuture.completedFuture(responses);
+    }
+
+    @Override
+    public InterestWrite prepareInterest(String userId, InterestRequest request) {
+        return new InterestWrite(newId(), userId, request.getCarId(), request.getCarOwner(), Instant.now());
+    }
+
+    @Override
+    public CompletableFuture<Void> writeInterests(List<InterestWrite> writes) {
+        return store(() -> writes.forEach(this::putInterest));
+    }
+
+    @Override
+    public InterestResponse buildInterestResponse(InterestWrite write) {
+        return toResponse(write, List.of());
+    }
+
+    @Override
+    public CompletableFuture<Page<InterestResponse>> listInterestsByUserId(String userId, PageRequest pageRequest) {
+        return CompletableFuture.completedFuture(
+                page(interestsByUser.get(userId), interests, pageRequest, this::toResponse));
+    }
+
+    @Override
+    public PageStream<InterestResponse> streamInterestsByUserId(String userId, PageRequest pageRequest) {
+        return PageStream.of(page(interestsByUser.get(userId), interests, pageRequest, this::toResponse));
+    }
+
+    @Override
+    public CompletableFuture<List<InterestResponse>> findInterestsByUserIdAndCarId(String userId, String carId, int limit) {
+        return CompletableFuture.completedFuture(
+                find(interestsByUser.get(userId), interests, write -> carId.equals(write.carId()), limit, this::toResponse));
+    }
+
+    // ==================== Test Drive Operations ====================
+
+    @Override
+    public CompletableFuture<TestDriveResponse> saveTestDrive(String userId, TestDriveRequest request) {
+        StoredTestDrive testDrive = newTestDrive(userId, request, false);
+        return store(() -> putTestDrive(testDrive)).thenApply(ignored -> toResponse(testDrive, List.of()));
+    }
+
+    @Override
+    public synchronized CompletableFuture<TestDriveResponse> saveTestDriveInSlot(
+            String userId, TestDriveRequest request, int capacity) {
+        StoredTestDrive testDrive = newTestDrive(userId, request, true);
+        SlotKey slot = new SlotKey(request.getDealerId(), testDrive.preferredDate());
+        if (slotCounts.getOrDefault(slot, 0L) >= capacity) {
+            return CompletableFuture.failedFuture(new SlotUnavailableException("Test drive slot is fully booked: dealerId="
+                    + request.getDealerId() + ", start=" + request.getPreferredDate()));
+        }
+        return store(() -> putTestDrive(testDrive)).thenApply(ignored -> toResponse(testDrive, List.of()));
+    }
+
+    @Override
+    public synchronized Registration listenToDealerSlots(Instant from, Consumer<DealerSlotChange> onChange) {
+        SlotListener listener = new SlotListener(from, onChange);
+        slotListeners.add(listener);
+
+        List<DealerSlotChange> initial = new ArrayList<>();
+        slotCounts.forEach((slot, count) -> {
+            if (!slot.start().isBefore(listener.from())) {
+                initial.add(new DealerSlotChange(slot.dealerId(), slot.start(), count));
+            }
+        });
+        listenerExecutor.execute(() -> initial.forEach(onChange));
+        return () -> slotListeners.remove(listener);
+    }
+
+    @Override
+    public CompletableFuture<Page<TestDriveResponse>> listTestDrivesByUserId(String userId, PageRequest pageRequest) {
+        return CompletableFuture.completedFuture(
+                page(testDrivesByUser.get(userId), testDrives, pageRequest, this::toResponse));
+    }
+
+    @Override
+    public PageStream<TestDriveResponse> streamTestDrivesByUserId(String userId, PageRequest pageRequest) {
+        return PageStream.of(page(testDrivesByUser.get(userId), testDrives, pageRequest, this::toResponse));
+    }
+
+    @Override
+    public CompletableFuture<List<TestDriveResponse>> findTestDrivesByUserIdAndCarId(String userId, String carId, int limit) {
+        return CompletableFuture.completedFuture(
+                find(testDrivesByUser.get(userId), testDrives, testDrive -> carId.equals(testDrive.carId()), limit, this::toResponse));
+    }
+
+    // ==================== User Activity Operations ====================
+
+    // Counts and recent items are read under the store lock so they agree with each other
+    @Override
+    public synchronized CompletableFuture<UserActivity> getUserActivity(String uid) {
+        PageRequest recent = PageRequest.firstPage(recentLimit);
+        return CompletableFuture.completedFuture(new UserActivity(
+                interestCounts.getOrDefault(uid, 0L),
+                testDriveCounts.getOrDefault(uid, 0L),
+                page(interestsByUser.get(uid), interests, recent, this::toResponse).items(),
+                page(testDrivesByUser.get(uid), testDrives, recent, this::toResponse).items()));
+    }
+
+    // ==================== Writes ====================
+
+    // Runs the mutation under the store lock; IO failures surface as a failed future
+    private CompletableFuture<Void> store(Runnable mutation) {
+        try {
+            synchronized (this) {
+                mutation.run();
+            }
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            log.error("Local store write failed", e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Callers hold the store lock: the log append and the in-memory update happen together
+
+    private void putUser(StoredUser user) {
+        append(encode(user));
+        applyUser(user);
+        List<Consumer<UserProfileResponse>> listeners = userListeners.get(user.uid());
+        if (listeners != null && !listeners.isEmpty()) {
+            UserProfileResponse response = toResponse(user);
+            for (Consumer<UserProfileResponse> listener : listeners) {
+                listenerExecutor.execute(() -> listener.accept(response));
+            }
+        }
+    }
+
+    private void putInterest(InterestWrite write) {
+        append(encode(write));
+        applyInterest(write);
+    }
+
+    private void putTestDrive(StoredTestDrive testDrive) {
+        append(encode(testDrive));
+        Long count = applyTestDrive(testDrive);
+        if (count == null) {
+            return;
+        }
+        SlotKey slot = new SlotKey(testDrive.dealerId(), testDrive.preferredDate());
+        DealerSlotChange change = new DealerSlotChange(slot.dealerId(), slot.start(), count);
+        for (SlotListener listener : slotListeners) {
+            if (!slot.start().isBefore(listener.from())) {
+                listenerExecutor.execute(() -> listener.onChange().accept(change));
+            }
+        }
+    }
+
+    private void append(byte[] record) {
+        storeLog.append(record);
+        if (syncWrites) {
+            storeLog.force();
+        }
+    }
+
+    private void applyUser(StoredUser user) {
+        users.put(user.uid(), user);
+    }
+
+    private void applyInterest(InterestWrite write) {
+        interests.put(write.id(), write);
+        if (interestsByUser.computeIfAbsent(write.userId(), key -> new ConcurrentSkipListSet<>(NEWEST_FIRST))
+                .add(new IndexKey(write.createdAt(), write.id()))) {
+            interestCounts.merge(write.userId(), 1L, Long::sum);
+        }
+    }
+
+    // Returns the new booked count of the slot, or null when the test drive claimed none
+    private Long applyTestDrive(StoredTestDrive testDrive) {
+        StoredTestDrive previous = testDrives.put(testDrive.id(), testDrive);
+        if (testDrivesByUser.computeIfAbsent(testDrive.userId(), key -> new ConcurrentSkipListSet<>(NEWEST_FIRST))
+                .add(new IndexKey(testDrive.createdAt(), testDrive.id()))) {
+            testDriveCounts.merge(testDrive.userId(), 1L, Long::sum);
+        }
+        if (!testDrive.slotted() || previous != null) {
+            return null;
+        }
+        return slotCounts.merge(new SlotKey(testDrive.dealerId(), testDrive.preferredDate()), 1L, Long::sum);
+    }
+
+    private StoredTestDrive newTestDrive(String userId, TestDriveRequest request, boolean slotted) {
+        return new StoredTestDrive(
+                newId(),
+                userId,
+                request.getCarId(),
+                request.getCarOwner(),
+                request.getDealerId(),
+                toInstant(request.getPreferredDate()),
+                "requested",
+                Instant.now(),
+                slotted);
+    }
+
+    // Firestore-style auto id: 20 random alphanumerics
+    private String newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] id = new char[ID_LENGTH];
+        for (int i = 0; i < ID_LENGTH; i++) {
+            id[i] = ID_ALPHABET.charAt(random.nextInt(ID_ALPHABET.length()));
+        }
+        return new String(id);
+    }
+
+    // ==================== Reads ====================
+
+    // Walks the user's index from the cursor and takes one extra key to tell whether another page exists
+    private <D, T> Page<T> page(
+            NavigableSet<IndexKey> index,
+            Map<String, D> documents,
+            PageRequest pageRequest,
+            BiFunction<D, List<String>, T> mapper) {
+        if (index == null) {
+            return new Page<>(List.of(), null);
+        }
+        NavigableSet<IndexKey> view = pageRequest.startAfter() == null
+                ? index
+                : index.tailSet(new IndexKey(pageRequest.startAfter().createdAt(), pageRequest.startAfter().documentId()), false);
+
+        List<T> items = new ArrayList<>(Math.min(pageRequest.limit(), 64));
+        IndexKey last = null;
+        boolean hasMore = false;
+        for (IndexKey key : view) {
+            if (items.size() == pageRequest.limit()) {
+                hasMore = true;
+                break;
+            }
+            items.add(mapper.apply(documents.get(key.id()), pageRequest.fields()));
+            last = key;
+        }
+        String nextPageToken = hasMore ? PageRequest.encodeToken(last.createdAt(), last.id()) : null;
+        return new Page<>(items, nextPageToken);
+    }
+
+    // Walks the user's index newest first, keeping the documents that match
+    private <D, T> List<T> find(
+            NavigableSet<IndexKey> index,
+            Map<String, D> documents,
+            Predicate<D> filter,
+            int limit,
+            BiFunction<D, List<String>, T> mapper) {
+        if (index == null) {
+            return List.of();
+        }
+        List<T> items = new ArrayList<>();
+        for (IndexKey key : index) {
+            if (items.size() == limit) {
+                break;
+            }
+            D document = documents.get(key.id());
+            if (filter.test(document)) {
+                items.add(mapper.apply(document, List.of()));
+            }
+        }
+        return items;
+    }
+
+    // An empty field list selects every field, like an unprojected Firestore query
+    private static boolean selected(List<String> fields, String field) {
+        return fields.isEmpty() || fields.contains(field);
+    }
+
+    private UserProfileResponse toResponse(StoredUser user) {
+        return UserProfileResponse.builder()
+                .uid(user.uid())
+                .email(user.email())
+                .name(user.name())
+                .city(user.city())
+                .attributes(user.attributes())
+                .audiences(user.audiences())
+                .abTestGroup(user.abTestGroup())
+                .createdAt(toLocalDateTime(user.createdAt()))
+                .updatedAt(toLocalDateTime(user.updatedAt()))
+                .build();
+    }
+
+    private InterestResponse toResponse(InterestWrite write, List<String> fields) {
+        return InterestResponse.builder()
+                .id(write.id())
+                .userId(selected(fields, "userId") ? write.userId() : null)
+                .carId(selected(fields, "carId") ? write.carId() : null)
+                .carOwner(selected(fields, "carOwner") ? write.carOwner() : null)
+                .createdAt(toLocalDateTime(write.createdAt()))
+                .build();
+    }
+
+    private TestDriveResponse toResponse(StoredTestDrive testDrive, List<String> fields) {
+        return TestDriveResponse.builder()
+                .id(testDrive.id())
+                .userId(selected(fields, "userId") ? testDrive.userId() : null)
+                .carId(selected(fields, "carId") ? testDrive.carId() : null)
+                .carOwner(selected(fields, "carOwner") ? testDrive.carOwner() : null)
+                .dealerId(selected(fields, "dealerId") ? testDrive.dealerId() : null)
+                .preferredDate(selected(fields, "preferredDate") ? toLocalDateTime(testDrive.preferredDate()) : null)
+                .status(selected(fields, "status") ? testDrive.status() : null)
+                .createdAt(toLocalDateTime(testDrive.createdAt()))
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, zone) : null;
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(zone).toInstant() : null;
+    }
+
+    // ==================== Log Records ====================
+
+    private List<byte[]> liveRecords() {
+        List<byte[]> records = new ArrayList<>(users.size() + interests.size() + testDrives.size());
+        users.values().forEach(user -> records.add(encode(user)));
+        interests.values().forEach(write -> records.add(encode(write)));
+        testDrives.values().forEach(testDrive -> records.add(encode(testDrive)));
+        return records;
+    }
+
+    private void apply(byte[] payload) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            switch (in.readByte()) {
+                case USER_RECORD -> applyUser(new StoredUser(
+                        readString(in),
+                        readString(in),
+                        readString(in),
+                        readString(in),
+                        readAttributes(in),
+                        readList(in),
+                        readString(in),
+                        readInstant(in),
+                        readInstant(in)));
+                case INTEREST_RECORD -> applyInterest(new InterestWrite(
+                        readString(in),
+                        readString(in),
+                        readString(in),
+                        readString(in),
+                        readInstant(in)));
+                case TEST_DRIVE_RECORD -> applyTestDrive(new StoredTestDrive(
+                        readString(in),
+                        readString(in),
+                        readString(in),
+                        readString(in),
+                        readString(in),
+                        readInstant(in),
+                        readString(in),
+                        readInstant(in),
+                        in.readBoolean()));
+                default -> log.warn("Skipping unknown local store record type");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode local store record", e);
+        }
+    }
+
+    private byte[] encode(StoredUser user) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(USER_RECORD);
+            writeString(out, user.uid());
+            writeString(out, user.email());
+            writeString(out, user.name());
+            writeString(out, user.city());
+            byte[] attributes = objectMapper.writeValueAsBytes(user.attributes());
+            out.writeInt(attributes.length);
+            out.write(attributes);
+            writeList(out, user.audiences());
+            writeString(out, user.abTestGroup());
+            writeInstant(out, user.createdAt());
+            writeInstant(out, user.updatedAt());
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] encode(InterestWrite write) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(INTEREST_RECORD);
+            writeString(out, write.id());
+            writeString(out, write.userId());
+            writeString(out, write.carId());
+            writeString(out, write.carOwner());
+            writeInstant(out, write.createdAt());
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] encode(StoredTestDrive testDrive) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(160);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(TEST_DRIVE_RECORD);
+            writeString(out, testDrive.id());
+            writeString(out, testDrive.userId());
+            writeString(out, testDrive.carId());
+            writeString(out, testDrive.carOwner());
+            writeString(out, testDrive.dealerId());
+            writeInstant(out, testDrive.preferredDate());
+            writeString(out, testDrive.status());
+            writeInstant(out, testDrive.createdAt());
+            out.writeBoolean(testDrive.slotted());
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, Object> readAttributes(DataInputStream in) throws IOException {
+        byte[] attributes = new byte[in.readInt()];
+        in.readFully(attributes);
+        Map<String, Object> value = objectMapper.readValue(attributes, ATTRIBUTES_TYPE);
+        return value != null ? value : Map.of();
+    }
+
+    private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readList(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.backend.scheduling;
+
+import java.util.Arrays;
+
+// Immutable booked counts of one dealer's slots, sorted by slot start (epoch seconds).
+// Updates copy the arrays; a dealer has at most a few hundred upcoming slots.
+final class DealerSlots {
+
+    static final DealerSlots EMPTY = new DealerSlots(new long[0], new int[0]);
+
+    private final long[] starts;
+    private final int[] counts;
+
+    private DealerSlots(long[] starts, int[] counts) {
+        this.starts = starts;
+        this.counts = counts;
+    }
+
+    int count(long start) {
+        int index = Arrays.binarySearch(starts, start);
+        return index >= 0 ? counts[index] : 0;
+    }
+
+    DealerSlots with(long start, int count) {
+        int index = Arrays.binarySearch(starts, start);
+        if (index >= 0) {
+            if (count > 0) {
+                int[] updated = counts.clone();
+                updated[index] = count;
+                return new DealerSlots(starts, updated);
+            }
+            long[] fewerStarts = new long[starts.length - 1];
+            int[] fewerCounts = new int[counts.length - 1];
+            System.arraycopy(starts, 0, fewerStarts, 0, index);
+            System.arraycopy(starts, index + 1, fewerStarts, index, starts.length - index - 1);
+            System.arraycopy(counts, 0, fewerCounts, 0, index);
+            System.arraycopy(counts, index + 1, fewerCounts, index, counts.length - index - 1);
+            return new DealerSlots(fewerStarts, fewerCounts);
+        }
+        if (count <= 0) {
+            return this;
+        }
+        int insert = -index - 1;
+        long[] moreStarts = new long[starts.length + 1];
+        int[] moreCounts = new int[counts.length + 1];
+        System.arraycopy(starts, 0, moreStarts, 0, insert);
+        System.arraycopy(starts, insert, moreStarts, insert + 1, starts.length - insert);
+        System.arraycopy(counts, 0, moreCounts, 0, insert);
+        System.arraycopy(counts, insert, moreCounts, insert + 1, counts.length - insert);
+        moreStarts[insert] = start;
+        moreCounts[insert] = count;
+        return new DealerSlots(moreStarts, moreCounts);
+    }
+
+    // Drops slots that started before the cutoff
+    DealerSlots pruneBefore(long cutoff) {
+        int index = Arrays.binarySearch(starts, cutoff);
+        int from = index >= 0 ? index : -index - 1;
+        if (from == 0) {
+            return this;
+        }
+        return new DealerSlots(Arrays.copyOfRange(starts, from, starts.length),
+                Arrays.copyOfRange(counts, from, counts.length));
+    }
+
+    boolean isEmpty() {
+        return starts.length == 0;
+    }
+}
@@ -0,0 +1,179 @@
+package com.app.backend.scheduling;
+
+import com.app.backend.dtos.TestDriveSlotResponse;
+import com.app.backend.exceptions.SlotUnavailableException;
+import com.app.backend.repository.DealerSlotChange;
+import com.app.backend.repository.Registration;
+import com.app.backend.repository.TestDriveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Fixed-length test drive slots within business hours, with per-dealer booked counts held in
+// memory. Firestore stays the source of truth: bookings claim a slot in a transaction and a
+// snapshot listener on dealer_slots keeps this view in sync across instances.
+@Slf4j
+@Service
+public class TestDriveScheduler {
+
+    private final boolean enabled;
+    private final Duration slotDuration;
+    private final LocalTime opening;
+    private final LocalTime closing;
+    private final int capacity;
+    private final Duration bookingHorizon;
+    private final ZoneId zone;
+    private final TestDriveRepository testDriveRepository;
+    private final Counter conflictCounter;
+    private final Map<String, DealerSlots> dealers = new ConcurrentHashMap<>();
+
+    private Registration listener;
+
+    public TestDriveScheduler(
+            @Value("${test-drives.scheduling.enabled:false}") boolean enabled,
+            @Value("${test-drives.scheduling.zone:Asia/Kolkata}") String zone,
+            @Value("${test-drives.slot-duration:60m}") Duration slotDuration,
+            @Value("${test-drives.opening-time:10:00}") LocalTime opening,
+            @Value("${test-drives.closing-time:19:00}") LocalTime closing,
+            @Value("${test-drives.slot-capacity:1}") int capacity,
+            @Value("${test-drives.booking-horizon:30d}") Duration bookingHorizon,
+            TestDriveRepository testDriveRepository,
+            MeterRegistry meterRegistry) {
+        if (!closing.isAfter(opening) || slotDuration.isZero() || slotDuration.isNegative()) {
+            throw new IllegalArgumentException("test-drives.closing-time must be after opening-time and slot-duration positive");
+        }
+        this.enabled = enabled;
+        this.zone = ZoneId.of(zone);
+        this.slotDuration = slotDuration;
+        this.opening = opening;
+        this.closing = closing;
+        this.capacity = capacity;
+        this.bookingHorizon = bookingHorizon;
+        this.testDriveRepository = testDriveRepository;
+        this.conflictCounter = Counter.builder("test_drives.slot.conflicts")
+                .description("Bookings rejected because the slot was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            listener = testDriveRepository.listenToDealerSlots(Instant.now(), this::apply);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (listener != null) {
+            listener.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Maps a requested time to the start of the slot containing it
+    public LocalDateTime slotFor(LocalDateTime preferred) {
+        LocalTime time = preferred.toLocalTime();
+        long minutesFromOpening = Duration.between(opening, time).toMinutes();
+        long slotMinutes = slotDuration.toMinutes();
+        LocalDateTime start = preferred.toLocalDate()
+                .atTime(opening)
+                .plusMinutes(minutesFromOpening / slotMinutes * slotMinutes);
+
+        if (time.isBefore(opening) || start.toLocalTime().plus(slotDuration).isAfter(closing)) {
+            throw new IllegalArgumentException("Test drives can be booked between " + opening + " and " + closing);
+        }
+        LocalDateTime now = LocalDateTime.now(zone);
+        if (!start.isAfter(now)) {
+            throw new IllegalArgumentException("Preferred date must be in the future");
+        }
+        if (start.isAfter(now.plus(bookingHorizon))) {
+            throw new IllegalArgumentException("Test drives can be booked at most " + bookingHorizon.toDays() + " days ahead");
+        }
+        return start;
+    }
+
+    // Cheap pre-check before the transaction; the transaction still decides
+    public void checkAvailable(String dealerId, LocalDateTime slotStart) {
+        if (dealers.getOrDefault(dealerId, DealerSlots.EMPTY).count(epochSecond(slotStart)) >= capacity) {
+            conflictCounter.increment();
+            throw new SlotUnavailableException("Test drive slot is fully booked: dealerId=" + dealerId + ", start=" + slotStart);
+        }
+    }
+
+    public void recordConflict() {
+        conflictCounter.increment();
+    }
+
+    // Reflects a booking this instance just committed without waiting for the listener
+    public void recordBooking(String dealerId, LocalDateTime slotStart) {
+        long start = epochSecond(slotStart);
+        dealers.compute(dealerId, (id, slots) -> {
+            DealerSlots current = slots != null ? slots : DealerSlots.EMPTY;
+            return current.with(start, current.count(start) + 1);
+        });
+    }
+
+    public List<TestDriveSlotResponse> getFreeSlots(String dealerId, int days) {
+        DealerSlots slots = dealers.getOrDefault(dealerId, DealerSlots.EMPTY);
+        LocalDateTime now = LocalDateTime.now(zone);
+        LocalDate today = now.toLocalDate();
+
+        List<TestDriveSlotResponse> free = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            LocalDate date = today.plusDays(day);
+            for (LocalDateTime start = date.atTime(opening);
+                 !start.toLocalTime().plus(slotDuration).isAfter(closing) && start.toLocalDate().equals(date);
+                 start = start.plus(slotDuration)) {
+                if (!start.isAfter(now)) {
+                    continue;
+                }
+                int remaining = capacity - slots.count(epochSecond(start));
+                if (remaining > 0) {
+                    free.add(TestDriveSlotResponse.builder()
+                            .start(start)
+                            .end(start.plus(slotDuration))
+                            .remaining(remaining)
+                            .build());
+                }
+            }
+        }
+        return free;
+    }
+
+    private void apply(DealerSlotChange change) {
+        long start = change.slotStart().getEpochSecond();
+        long cutoff = Instant.now().minus(slotDuration).getEpochSecond();
+        dealers.compute(change.dealerId(), (id, slots) -> {
+            DealerSlots updated = (slots != null ? slots : DealerSlots.EMPTY)
+                    .with(start, (int) change.count())
+                    .pruneBefore(cutoff);
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    private long epochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toEpochSecond();
+    }
+}
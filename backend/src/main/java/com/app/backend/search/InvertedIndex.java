@@ -0,0 +1,261 @@
+package com.app.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+// In-process inverted index with BM25 ranking. Postings are delta + varint encoded into one
+// byte[] per term; documents only ever get increasing ids, so adds append to the encoding.
+// Removal tombstones the document and rewrites a term's postings once half of them are dead.
+final class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    record Hit(String key, float score) {
+    }
+
+    private static final class Postings {
+        byte[] data = new byte[16];
+        int length;
+        int lastDoc = -1;
+        int size;
+        int live;
+
+        void append(int doc, int frequency) {
+            ensureCapacity(10);
+            length = writeVarint(data, length, doc - lastDoc);
+            length = writeVarint(data, length, frequency);
+            lastDoc = doc;
+            size++;
+            live++;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+            }
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<String, Integer> docIds = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private String[] keys = new String[1024];
+    private int[] lengths = new int[1024];
+    private String[][] docTerms = new String[1024][];
+    private int nextDoc;
+    private int liveDocs;
+    private long totalLength;
+
+    // Title terms count twice so a match in the name outranks one buried in the body
+    void put(String key, String title, String body) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String token : Tokenizer.tokenize(title)) {
+            frequencies.merge(token, 2, Integer::sum);
+            length += 2;
+        }
+        for (String token : Tokenizer.tokenize(body)) {
+            frequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            int doc = nextDoc++;
+            if (doc == keys.length) {
+                keys = Arrays.copyOf(keys, doc * 2);
+                lengths = Arrays.copyOf(lengths, doc * 2);
+                docTerms = Arrays.copyOf(docTerms, doc * 2);
+            }
+            keys[doc] = key;
+            lengths[doc] = length;
+            docTerms[doc] = frequencies.keySet().toArray(String[]::new);
+            frequencies.forEach((term, frequency) ->
+                    terms.computeIfAbsent(term, t -> new Postings()).append(doc, frequency));
+            docIds.put(key, doc);
+            liveDocs++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // OR query over the tokens; when prefixLast is set the final token also matches as a prefix
+    List<Hit> search(String query, boolean prefixLast, int limit, Predicate<String> filter) {
+        List<String> tokens = Tokenizer.tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            float averageLength = (float) totalLength / liveDocs;
+            float[] scores = new float[nextDoc];
+            BitSet touched = new BitSet(nextDoc);
+
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                if (prefixLast && i == tokens.size() - 1) {
+                    for (Postings postings : expand(token)) {
+                        accumulate(postings, scores, touched, averageLength);
+                    }
+                } else {
+                    Postings postings = terms.get(token);
+                    if (postings != null) {
+                        accumulate(postings, scores, touched, averageLength);
+                    }
+                }
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, (a, b) -> Float.compare(a.score(), b.score()));
+            for (int doc = touched.nextSetBit(0); doc >= 0; doc = touched.nextSetBit(doc + 1)) {
+                if (top.size() == limit && scores[doc] <= top.peek().score()) {
+                    continue;
+                }
+                if (filter != null && !filter.test(keys[doc])) {
+                    continue;
+                }
+                top.add(new Hit(keys[doc], scores[doc]));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort((a, b) -> Float.compare(b.score(), a.score()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Most common terms first so a short prefix favours the words people actually search for
+    private List<Postings> expand(String prefix) {
+        List<Postings> matches = new ArrayList<>();
+        for (Postings postings : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (postings.live > 0) {
+                matches.add(postings);
+            }
+        }
+        if (matches.size() > MAX_PREFIX_EXPANSIONS) {
+            matches.sort((a, b) -> Integer.compare(b.live, a.live));
+            return matches.subList(0, MAX_PREFIX_EXPANSIONS);
+        }
+        return matches;
+    }
+
+    private void accumulate(Postings postings, float[] scores, BitSet touched, float averageLength) {
+        if (postings.live == 0) {
+            return;
+        }
+        float idf = (float) Math.log(1 + (liveDocs - postings.live + 0.5) / (postings.live + 0.5));
+        int offset = 0;
+        int doc = -1;
+        int[] decoded = new int[2];
+        while (offset < postings.length) {
+            offset = readVarint(postings.data, offset, decoded, 0);
+            offset = readVarint(postings.data, offset, decoded, 1);
+            doc += decoded[0];
+            if (deleted.get(doc)) {
+                continue;
+            }
+            int frequency = decoded[1];
+            float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+            scores[doc] += idf * frequency * (K1 + 1) / (frequency + norm);
+            touched.set(doc);
+        }
+    }
+
+    private void removeLocked(String key) {
+        Integer doc = docIds.remove(key);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        liveDocs--;
+        totalLength -= lengths[doc];
+        for (String term : docTerms[doc]) {
+            Postings postings = terms.get(term);
+            postings.live--;
+            if (postings.live == 0) {
+                terms.remove(term);
+            } else if (postings.live * 2 < postings.size) {
+                terms.put(term, compact(postings));
+            }
+        }
+        keys[doc] = null;
+        docTerms[doc] = null;
+    }
+
+    private Postings compact(Postings postings) {
+        Postings compacted = new Postings();
+        int offset = 0;
+        int doc = -1;
+        int[] decoded = new int[2];
+        while (offset < postings.length) {
+            offset = readVarint(postings.data, offset, decoded, 0);
+            offset = readVarint(postings.data, offset, decoded, 1);
+            doc += decoded[0];
+            if (!deleted.get(doc)) {
+                compacted.append(doc, decoded[1]);
+            }
+        }
+        return compacted;
+    }
+
+    private static int writeVarint(byte[] data, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            data[offset++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        data[offset++] = (byte) value;
+        return offset;
+    }
+
+    private static int readVarint(byte[] data, int offset, int[] out, int slot) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[offset++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        out[slot] = value;
+        return offset;
+    }
+}
@@ -0,0 +1,147 @@
+package com.app.backend.search;
+
+import com.app.backend.catalog.Car;
+import com.app.backend.catalog.CarCatalog;
+import com.app.backend.catalog.CatalogService;
+import com.app.backend.dtos.SearchResultResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class SearchService {
+
+    public static final String TYPE_CAR = "car";
+    public static final String TYPE_NEWS = "news";
+    public static final String TYPE_REVIEW = "review";
+
+    private record Document(String type, String id, String title, String summary) {
+    }
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final Map<String, Document> documents = new ConcurrentHashMap<>();
+    private Map<String, Car> indexedCars = Map.of();
+
+    public SearchService(
+            @Value("${search.entries.directory:../resources/entries}") String entriesDirectory,
+            ObjectMapper objectMapper,
+            CatalogService catalogService) {
+        Path directory = Path.of(entriesDirectory).toAbsolutePath().normalize();
+        loadEntries(directory.resolve("news.json"), TYPE_NEWS, objectMapper,
+                List.of("excerpt", "content", "related_brand", "related_model", "category", "news_tags"));
+        loadEntries(directory.resolve("review.json"), TYPE_REVIEW, objectMapper,
+                List.of("car_name", "car_brand", "excerpt", "content", "verdict", "pros", "cons", "review_tags"));
+        catalogService.addListener(this::syncCars);
+    }
+
+    // type may be null to search every content type
+    public List<SearchResultResponse> search(String query, String type, boolean prefix, int limit) {
+        boolean prefixLast = prefix && !query.isEmpty()
+                && Character.isLetterOrDigit(query.charAt(query.length() - 1));
+        List<InvertedIndex.Hit> hits = index.search(query, prefixLast, limit,
+                type == null ? null : key -> key.startsWith(type + ":"));
+
+        List<SearchResultResponse> results = new ArrayList<>(hits.size());
+        for (InvertedIndex.Hit hit : hits) {
+            Document document = documents.get(hit.key());
+            if (document != null) {
+                results.add(SearchResultResponse.builder()
+                        .type(document.type())
+                        .id(document.id())
+                        .title(document.title())
+                        .summary(document.summary())
+                        .score(hit.score())
+                        .build());
+            }
+        }
+        return results;
+    }
+
+    // Re-indexes only the cars that changed since the previous catalog snapshot
+    private synchronized void syncCars(CarCatalog catalog) {
+        Map<String, Car> current = new HashMap<>();
+        int updated = 0;
+        for (Car car : catalog.cars()) {
+            current.put(car.id(), car);
+            if (!car.equals(indexedCars.get(car.id()))) {
+                String key = TYPE_CAR + ":" + car.id();
+                documents.put(key, new Document(TYPE_CAR, car.id(), car.title(), car.shortDescription()));
+                index.put(key, car.title(), join(
+                        car.brand(), car.model(), car.variant(), car.fuelType(), car.bodyType(),
+                        car.transmission(), car.city(), car.shortDescription(), car.description(),
+                        String.join(" ", car.features())));
+                updated++;
+            }
+        }
+        int removed = 0;
+        for (String id : indexedCars.keySet()) {
+            if (!current.containsKey(id)) {
+                String key = TYPE_CAR + ":" + id;
+                index.remove(key);
+                documents.remove(key);
+                removed++;
+            }
+        }
+        indexedCars = current;
+        log.info("Search index synced with car catalog: updated={}, removed={}, documents={}",
+                updated, removed, index.size());
+    }
+
+    private void loadEntries(Path file, String type, ObjectMapper objectMapper, List<String> bodyFields) {
+        if (!Files.isRegularFile(file)) {
+            log.warn("Search entries file not found: type={}, path={}", type, file);
+            return;
+        }
+        try {
+            int count = 0;
+            for (JsonNode entry : objectMapper.readTree(file.toFile()).path("entries")) {
+                String id = entry.path("slug").asText(null);
+                if (id == null) {
+                    continue;
+                }
+                String title = entry.path("title").asText("");
+                StringBuilder body = new StringBuilder();
+                for (String field : bodyFields) {
+                    appendText(body, entry.path(field));
+                }
+                String key = type + ":" + id;
+                documents.put(key, new Document(type, id, title, entry.path("excerpt").asText(null)));
+                index.put(key, title, body.toString());
+                count++;
+            }
+            log.info("Search entries indexed: type={}, count={}", type, count);
+        } catch (IOException e) {
+            log.error("Failed to index search entries: type={}, path={}", type, file, e);
+        }
+    }
+
+    private static void appendText(StringBuilder body, JsonNode node) {
+        if (node.isTextual()) {
+            body.append(node.asText()).append(' ');
+        } else if (node.isArray()) {
+            node.forEach(item -> appendText(body, item));
+        }
+    }
+
+    private static String join(String... parts) {
+        StringBuilder joined = new StringBuilder();
+        for (String part : parts) {
+            if (part != null) {
+                joined.append(part).append(' ');
+            }
+        }
+        return joined.toString();
+    }
+}
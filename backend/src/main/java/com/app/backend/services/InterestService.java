@@ -1,31 +1,87 @@
 package com.app.backend.services;
 
+import com.app.backend.catalog.CatalogService;
+import com.app.backend.dtos.BatchItemResponse;
 import com.app.backend.dtos.InterestRequest;
 import com.app.backend.dtos.InterestResponse;
-import com.app.backend.firestore.FirestoreService;
+import com.app.backend.ingest.InterestWriteBehindQueue;
+import com.app.backend.popularity.PopularityService;
+import com.app.backend.repository.InterestRepository;
+import com.app.backend.repository.InterestWrite;
+import com.app.backend.repository.Page;
+import com.app.backend.repository.PageRequest;
+import com.app.backend.repository.PageStream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 public class InterestService {
 
-    private final FirestoreService firestoreService;
+    private final InterestRepository interestRepository;
+    private final CatalogService catalogService;
+    private final PopularityService popularityService;
+    private final InterestWriteBehindQueue writeBehindQueue;
 
-    public InterestService(FirestoreService firestoreService) {
-        this.firestoreService = firestoreService;
+    public InterestService(
+            InterestRepository interestRepository,
+            CatalogService catalogService,
+            PopularityService popularityService,
+            ObjectProvider<InterestWriteBehindQueue> writeBehindQueue) {
+        this.interestRepository = interestRepository;
+        this.catalogService = catalogService;
+        this.popularityService = popularityService;
+        this.writeBehindQueue = writeBehindQueue.getIfAvailable();
     }
 
-    public InterestResponse createInterest(String userId, InterestRequest request) {
+    public CompletableFuture<InterestResponse> createInterest(String userId, InterestRequest request) {
         log.info("Creating interest for user: userId={}, carId={}", userId, request.getCarId());
-        return firestoreService.saveInterest(userId, request);
+        catalogService.validateCarId(request.getCarId());
+        if (writeBehindQueue != null) {
+            InterestWrite write = interestRepository.prepareInterest(userId, request);
+            if (writeBehindQueue.offer(write)) {
+                popularityService.recordInterest(request.getCarId());
+                return CompletableFuture.completedFuture(interestRepository.buildInterestResponse(write));
+            }
+            log.warn("Write-behind queue full, writing interest synchronously: userId={}", userId);
+        }
+        return interestRepository.saveInterest(userId, request)
+                .whenComplete((response, error) -> {
+                    if (error == null) {
+                        popularityService.recordInterest(request.getCarId());
+                    }
+                });
     }
 
-    public List<InterestResponse> getInterestsByUserId(String userId) {
+    public CompletableFuture<List<BatchItemResponse<InterestResponse>>> createInterests(
+            String userId, List<InterestRequest> requests) {
+        log.info("Creating {} interests for user: userId={}", requests.size(), userId);
+        requests.forEach(request -> catalogService.validateCarId(request.getCarId()));
+        return interestRepository.saveInterests(userId, requests)
+                .whenComplete((results, error) -> {
+                    if (error == null) {
+                        results.stream()
+                                .filter(BatchItemResponse::isSuccess)
+                                .map(BatchItemResponse::getData)
+                                .forEach(data -> popularityService.recordInterest(data.getCarId()));
+                    }
+                });
+    }
+
+    public CompletableFuture<Page<InterestResponse>> getInterestsByUserId(String userId, PageRequest pageRequest) {
         log.info("Fetching interests for user: userId={}", userId);
-        return firestoreService.listInterestsByUserId(userId);
+        return interestRepository.listInterestsByUserId(userId, pageRequest);
     }
-}
 
+    public PageStream<InterestResponse> streamInterestsByUserId(String userId, PageRequest pageRequest) {
+        return interestRepository.streamInterestsByUserId(userId, pageRequest);
+    }
+
+    public CompletableFuture<List<InterestResponse>> getInterestsForCar(String userId, String carId, int limit) {
+        return interestRepository.findInterestsByUserIdAndCarId(userId, carId, limit);
+    }
+}
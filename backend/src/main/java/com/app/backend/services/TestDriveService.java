@@ -1,32 +1,91 @@
 package com.app.backend.services;
 
+import com.app.backend.catalog.CatalogService;
 import com.app.backend.dtos.TestDriveRequest;
 import com.app.backend.dtos.TestDriveResponse;
-import com.app.backend.firestore.FirestoreService;
+import com.app.backend.dtos.TestDriveSlotResponse;
+import com.app.backend.exceptions.SlotUnavailableException;
+import com.app.backend.popularity.PopularityService;
+import com.app.backend.repository.Page;
+import com.app.backend.repository.PageRequest;
+import com.app.backend.repository.PageStream;
+import com.app.backend.repository.TestDriveRepository;
+import com.app.backend.scheduling.TestDriveScheduler;
+import com.app.backend.utils.FutureUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 public class TestDriveService {
 
-    private final FirestoreService firestoreService;
+    private final TestDriveRepository testDriveRepository;
+    private final CatalogService catalogService;
+    private final PopularityService popularityService;
+    private final TestDriveScheduler scheduler;
 
-    public TestDriveService(FirestoreService firestoreService) {
-        this.firestoreService = firestoreService;
+    public TestDriveService(
+            TestDriveRepository testDriveRepository,
+            CatalogService catalogService,
+            PopularityService popularityService,
+            TestDriveScheduler scheduler) {
+        this.testDriveRepository = testDriveRepository;
+        this.catalogService = catalogService;
+        this.popularityService = popularityService;
+        this.scheduler = scheduler;
     }
 
-    public TestDriveResponse createTestDrive(String userId, TestDriveRequest request) {
+    public CompletableFuture<TestDriveResponse> createTestDrive(String userId, TestDriveRequest request) {
         log.info("Creating test drive for user: userId={}, carId={}, dealerId={}", 
                 userId, request.getCarId(), request.getDealerId());
-        return firestoreService.saveTestDrive(userId, request);
+        catalogService.validateCarId(request.getCarId());
+        return book(userId, request)
+                .whenComplete((response, error) -> {
+                    if (error == null) {
+                        popularityService.recordTestDrive(request.getCarId());
+                    }
+                });
     }
 
-    public List<TestDriveResponse> getTestDrivesByUserId(String userId) {
+    public List<TestDriveSlotResponse> getFreeSlots(String dealerId, int days) {
+        if (!scheduler.isEnabled()) {
+            throw new IllegalArgumentException("Test drive scheduling is disabled");
+        }
+        return scheduler.getFreeSlots(dealerId, days);
+    }
+
+    private CompletableFuture<TestDriveResponse> book(String userId, TestDriveRequest request) {
+        if (!scheduler.isEnabled()) {
+            return testDriveRepository.saveTestDrive(userId, request);
+        }
+        LocalDateTime slotStart = scheduler.slotFor(request.getPreferredDate());
+        scheduler.checkAvailable(request.getDealerId(), slotStart);
+
+        TestDriveRequest slotted = request.toBuilder().preferredDate(slotStart).build();
+        return testDriveRepository.saveTestDriveInSlot(userId, slotted, scheduler.getCapacity())
+                .whenComplete((response, error) -> {
+                    if (error == null) {
+                        scheduler.recordBooking(request.getDealerId(), slotStart);
+                    } else if (FutureUtils.unwrap(error) instanceof SlotUnavailableException) {
+                        scheduler.recordConflict();
+                    }
+                });
+    }
+
+    public CompletableFuture<Page<TestDriveResponse>> getTestDrivesByUserId(String userId, PageRequest pageRequest) {
         log.info("Fetching test drives for user: userId={}", userId);
-        return firestoreService.listTestDrivesByUserId(userId);
+        return testDriveRepository.listTestDrivesByUserId(userId, pageRequest);
+    }
+
+    public PageStream<TestDriveResponse> streamTestDrivesByUserId(String userId, PageRequest pageRequest) {
+        return testDriveRepository.streamTestDrivesByUserId(userId, pageRequest);
     }
-}
 
+    public CompletableFuture<List<TestDriveResponse>> getTestDrivesForCar(String userId, String carId, int limit) {
+        return testDriveRepository.findTestDrivesByUserIdAndCarId(userId, carId, limit);
+    }
+}
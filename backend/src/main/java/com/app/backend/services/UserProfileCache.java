@@ -0,0 +1,202 @@
+package com.app.backend.services;
+
+import com.app.backend.dtos.UserProfileResponse;
+import com.app.backend.repository.Registration;
+import com.app.backend.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    public enum Status { HIT, NEGATIVE_HIT, MISS }
+
+    public record Lookup(Status status, UserProfileResponse profile) {
+        private static final Lookup MISS = new Lookup(Status.MISS, null);
+        private static final Lookup NEGATIVE_HIT = new Lookup(Status.NEGATIVE_HIT, null);
+    }
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final boolean listenForRemoteChanges;
+    private final UserRepository userRepository;
+    private final Map<String, CachedProfile> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+    private final DistributionSummary staleness;
+
+    public UserProfileCache(
+            @Value("${users.profile-cache.enabled:true}") boolean enabled,
+            @Value("${users.profile-cache.max-entries:10000}") int maxEntries,
+            @Value("${users.profile-cache.ttl:60s}") Duration ttl,
+            @Value("${users.profile-cache.negative-ttl:5s}") Duration negativeTtl,
+            @Value("${users.profile-cache.listen-for-remote-changes:false}") boolean listenForRemoteChanges,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.listenForRemoteChanges = listenForRemoteChanges;
+        this.userRepository = userRepository;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedProfile> eldest) {
+                if (size() > UserProfileCache.this.maxEntries) {
+                    eldest.getValue().stopListening();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        FunctionCounter.builder("users.profile.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("users.profile.cache.requests", negativeHits, LongAdder::sum)
+                .tag("result", "negative_hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("users.profile.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("users.profile.cache.remote.invalidations", remoteInvalidations, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("users.profile.cache.hit.ratio", this, UserProfileCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("users.profile.cache.size", this, UserProfileCache::size)
+                .register(meterRegistry);
+        this.staleness = DistributionSummary.builder("users.profile.cache.staleness")
+                .description("Age of cached profiles when served")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        log.info("User profile cache initialized: enabled={}, maxEntries={}, ttl={}, negativeTtl={}, listen={}",
+                enabled, maxEntries, ttl, negativeTtl, listenForRemoteChanges);
+    }
+
+    public Lookup lookup(String uid) {
+        if (!enabled) {
+            return Lookup.MISS;
+        }
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedProfile cached = entries.get(uid);
+            if (cached == null) {
+                misses.increment();
+                return Lookup.MISS;
+            }
+            if (cached.expiresAtMillis() <= now) {
+                entries.remove(uid).stopListening();
+                misses.increment();
+                return Lookup.MISS;
+            }
+            staleness.record(now - cached.loadedAtMillis());
+            if (cached.profile() == null) {
+                negativeHits.increment();
+                return Lookup.NEGATIVE_HIT;
+            }
+            hits.increment();
+            return new Lookup(Status.HIT, cached.profile());
+        }
+    }
+
+    public UserProfileResponse getIfPresent(String uid) {
+        Lookup lookup = lookup(uid);
+        return lookup.status() == Status.HIT ? lookup.profile() : null;
+    }
+
+    public void put(String uid, UserProfileResponse profile) {
+        store(uid, profile, ttlMillis);
+    }
+
+    public void putMissing(String uid) {
+        store(uid, null, negativeTtlMillis);
+    }
+
+    public void invalidate(String uid) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (entries) {
+            CachedProfile removed = entries.remove(uid);
+            if (removed != null) {
+                removed.stopListening();
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void store(String uid, UserProfileResponse profile, long ttl) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedProfile previous = entries.get(uid);
+            Registration registration = previous != null ? previous.registration() : null;
+            if (registration == null && listenForRemoteChanges) {
+                registration = userRepository.listenToUser(uid, latest -> onRemoteChange(uid, latest));
+            }
+            entries.put(uid, new CachedProfile(profile, now, now + ttl, registration));
+        }
+    }
+
+    private void onRemoteChange(String uid, UserProfileResponse latest) {
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedProfile cached = entries.get(uid);
+            if (cached == null) {
+                return;
+            }
+            if (latest == null) {
+                entries.put(uid, new CachedProfile(null, now, now + negativeTtlMillis, cached.registration()));
+            } else {
+                entries.put(uid, new CachedProfile(latest, now, now + ttlMillis, cached.registration()));
+            }
+        }
+        remoteInvalidations.increment();
+    }
+
+    private double hitRatio() {
+        double served = hits.sum() + negativeHits.sum();
+        double total = served + misses.sum();
+        return total == 0 ? 0.0 : served / total;
+    }
+
+    private record CachedProfile(
+            UserProfileResponse profile,
+            long loadedAtMillis,
+            long expiresAtMillis,
+            Registration registration) {
+
+        void stopListening() {
+            if (registration != null) {
+                registration.close();
+            }
+        }
+    }
+}
@@ -1,41 +1,110 @@
 package com.app.backend.services;
 
+import com.app.backend.dtos.DashboardResponse;
 import com.app.backend.dtos.UserProfileRequest;
 import com.app.backend.dtos.UserProfileResponse;
 import com.app.backend.exceptions.ResourceNotFoundException;
-import com.app.backend.firestore.FirestoreService;
+import com.app.backend.repository.ActivityRepository;
+import com.app.backend.repository.UserRepository;
+import com.app.backend.utils.SingleFlight;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
+import static com.app.backend.utils.FutureUtils.unwrap;
+
 @Slf4j
 @Service
 public class UserService {
 
-    private final FirestoreService firestoreService;
+    private final UserRepository userRepository;
+    private final ActivityRepository activityRepository;
+    private final UserProfileCache profileCache;
+    private final SingleFlight<String, UserProfileResponse> getOrCreateFlights = new SingleFlight<>();
 
-    public UserService(FirestoreService firestoreService) {
-        this.firestoreService = firestoreService;
+    public UserService(
+            UserRepository userRepository, ActivityRepository activityRepository, UserProfileCache profileCache) {
+        this.userRepository = userRepository;
+        this.activityRepository = activityRepository;
+        this.profileCache = profileCache;
     }
 
-    public UserProfileResponse getOrCreateUser(String uid, String email) {
-        try {
-            return firestoreService.getUser(uid);
-        } catch (ResourceNotFoundException e) {
-            log.info("User not found, creating new user: uid={}", uid);
-            UserProfileRequest defaultProfile = UserProfileRequest.builder()
-                    .name("")
-                    .city("")
-                    .build();
-            return firestoreService.saveUser(uid, email, defaultProfile);
+    public CompletableFuture<UserProfileResponse> getOrCreateUser(String uid, String email) {
+        UserProfileCache.Lookup cached = profileCache.lookup(uid);
+        if (cached.status() == UserProfileCache.Status.HIT) {
+            return CompletableFuture.completedFuture(cached.profile());
         }
+        boolean knownMissing = cached.status() == UserProfileCache.Status.NEGATIVE_HIT;
+
+        // Concurrent first requests for a uid share one lookup/create
+        return getOrCreateFlights.execute(uid,
+                () -> knownMissing ? createUser(uid, email) : loadOrCreateUser(uid, email));
     }
 
-    public UserProfileResponse getUser(String uid) {
-        return firestoreService.getUser(uid);
+    // Profile and activity summary, fetched concurrently. With the profile cached this is
+    // a single document read instead of listing the interest and test drive collections.
+    public CompletableFuture<DashboardResponse> getDashboard(String uid, String email) {
+        return getOrCreateUser(uid, email)
+                .thenCombine(activityRepository.getUserActivity(uid), (profile, activity) -> DashboardResponse.builder()
+                        .profile(profile)
+                        .interestCount(activity.interestCount())
+                        .testDriveCount(activity.testDriveCount())
+                        .recentInterests(activity.recentInterests())
+                        .recentTestDrives(activity.recentTestDrives())
+                        .build());
     }
 
-    public UserProfileResponse updateUser(String uid, UserProfileRequest request) {
-        return firestoreService.updateUser(uid, request);
+    public CompletableFuture<UserProfileResponse> getUser(String uid) {
+        UserProfileResponse cached = profileCache.getIfPresent(uid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return userRepository.getUser(uid)
+                .thenApply(profile -> {
+                    profileCache.put(uid, profile);
+                    return profile;
+                });
     }
-}
 
+    public CompletableFuture<UserProfileResponse> updateUser(String uid, UserProfileRequest request) {
+        UserProfileResponse priorState = profileCache.getIfPresent(uid);
+
+        return userRepository.updateUser(uid, request, priorState)
+                .whenComplete((profile, e) -> {
+                    if (e == null) {
+                        profileCache.put(uid, profile);
+                    } else {
+                        profileCache.invalidate(uid);
+                    }
+                });
+    }
+
+    private CompletableFuture<UserProfileResponse> loadOrCreateUser(String uid, String email) {
+        return userRepository.getUser(uid)
+                .thenApply(profile -> {
+                    profileCache.put(uid, profile);
+                    return profile;
+                })
+                .exceptionallyCompose(e -> {
+                    if (!(unwrap(e) instanceof ResourceNotFoundException)) {
+                        return CompletableFuture.failedFuture(unwrap(e));
+                    }
+                    profileCache.putMissing(uid);
+                    return createUser(uid, email);
+                });
+    }
+
+    private CompletableFuture<UserProfileResponse> createUser(String uid, String email) {
+        log.info("User not found, creating new user: uid={}", uid);
+        UserProfileRequest defaultProfile = UserProfileRequest.builder()
+                .name("")
+                .city("")
+                .build();
+        return userRepository.createUserIfAbsent(uid, email, defaultProfile)
+                .thenApply(profile -> {
+                    profileCache.put(uid, profile);
+                    return profile;
+                });
+    }
+}
@@ -0,0 +1,259 @@
+package com.app.backend.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Append-only log of opaque records in fixed-size memory-mapped segment files. Each record is
+// [int length][int crc32][payload]; a zero length marks the unwritten tail of a segment, and
+// a record whose checksum does not match ends the segment on open. Appends are serialized;
+// one thread may read behind them concurrently. Records reach the disk on force().
+@Slf4j
+public class SegmentedLog implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+
+    public record Position(long segment, int offset) {
+    }
+
+    private final Path directory;
+    private final String segmentPrefix;
+    private final int segmentSize;
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Object forceLock = new Object();
+
+    private Segment head;
+
+    // Opens the segments in directory, deleting those numbered below firstSegment; an empty
+    // log starts at firstSegment
+    public SegmentedLog(Path directory, String segmentPrefix, int segmentSize, long firstSegment) throws IOException {
+        this.directory = directory;
+        this.segmentPrefix = segmentPrefix;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+
+        for (Path file : listSegmentFiles()) {
+            long seq = segmentSeq(file);
+            if (seq < firstSegment) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            Segment segment = openSegment(seq);
+            segment.writePosition = scanEnd(segment);
+            segment.forcedPosition = segment.writePosition;
+            segments.put(seq, segment);
+        }
+        if (segments.isEmpty()) {
+            segments.put(firstSegment, openSegment(firstSegment));
+        }
+        this.head = segments.lastEntry().getValue();
+    }
+
+    public Position start() {
+        return new Position(segments.firstKey(), 0);
+    }
+
+    public synchronized void append(byte[] payload) {
+        int recordSize = HEADER_BYTES + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record larger than segment size");
+        }
+        try {
+            if (head.writePosition + recordSize > segmentSize) {
+                head = openSegment(head.seq + 1);
+                segments.put(head.seq, head);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll log segment in " + directory, e);
+        }
+
+        int offset = head.writePosition;
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        head.buffer.put(offset + HEADER_BYTES, payload);
+        head.buffer.putInt(offset + 4, (int) crc.getValue());
+        // Length goes last so a torn write is never mistaken for a complete record
+        head.buffer.putInt(offset, payload.length);
+        head.writePosition = offset + recordSize;
+    }
+
+    // Flushes records appended since the last force to the disk. Forces are serialized
+    // among themselves but not with appends.
+    public void force() {
+        synchronized (forceLock) {
+            List<Segment> unforced = new ArrayList<>();
+            List<Integer> ends = new ArrayList<>();
+            synchronized (this) {
+                for (Segment segment : segments.values()) {
+                    if (segment.forcedPosition < segment.writePosition) {
+                        unforced.add(segment);
+                        ends.add(segment.writePosition);
+                    }
+                }
+            }
+            // msync outside the append lock, so appends are not blocked by the disk
+            for (int i = 0; i < unforced.size(); i++) {
+                Segment segment = unforced.get(i);
+                int from = segment.forcedPosition;
+                segment.buffer.force(from, ends.get(i) - from);
+                segment.forcedPosition = ends.get(i);
+            }
+        }
+    }
+
+    // Hands up to maxRecords records from the given position to consumer in append order and
+    // returns the position after the last one
+    public Position read(Position from, int maxRecords, Consumer<byte[]> consumer) {
+        long seq = from.segment();
+        int offset = from.offset();
+        int read = 0;
+
+        while (read < maxRecords) {
+            Segment segment = segments.get(seq);
+            if (segment == null) {
+                break;
+            }
+            if (offset >= segment.writePosition) {
+                Long next = segments.higherKey(seq);
+                if (next == null) {
+                    break;
+                }
+                seq = next;
+                offset = 0;
+                continue;
+            }
+            int length = segment.buffer.getInt(offset);
+            byte[] payload = new byte[length];
+            segment.buffer.get(offset + HEADER_BYTES, payload);
+            consumer.accept(payload);
+            offset += HEADER_BYTES + length;
+            read++;
+        }
+        return new Position(seq, offset);
+    }
+
+    // Number of records from the given position to the end of the log
+    public long count(Position from) {
+        long count = 0;
+        for (Segment segment : segments.tailMap(from.segment(), true).values()) {
+            int offset = segment.seq == from.segment() ? from.offset() : 0;
+            while (offset < segment.writePosition) {
+                offset += HEADER_BYTES + segment.buffer.getInt(offset);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Deletes the segments numbered below the given one; the head segment is always kept
+    public synchronized void deleteBefore(long segment) throws IOException {
+        for (Map.Entry<Long, Segment> entry : segments.headMap(Math.min(segment, head.seq), false).entrySet()) {
+            segments.remove(entry.getKey());
+            entry.getValue().channel.close();
+            Files.deleteIfExists(segmentPath(entry.getKey()));
+        }
+    }
+
+    // Replaces the log with the given records: they are appended to new segments, which are
+    // forced to disk before the old segments are deleted. A crash in between leaves both.
+    public synchronized void rewrite(List<byte[]> records) throws IOException {
+        long firstNew = head.seq + 1;
+        head = openSegment(firstNew);
+        segments.put(head.seq, head);
+
+        for (byte[] payload : records) {
+            append(payload);
+        }
+        // Forced here rather than with force(), which takes its lock before this one
+        for (Segment segment : segments.tailMap(firstNew, true).values()) {
+            segment.buffer.force();
+            segment.forcedPosition = segment.writePosition;
+        }
+        deleteBefore(firstNew);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (Segment segment : segments.values()) {
+            segment.buffer.force();
+            segment.channel.close();
+        }
+        segments.clear();
+    }
+
+    // Finds the end of the valid records in a segment, stopping at the first torn record
+    private int scanEnd(Segment segment) {
+        int offset = 0;
+        while (offset + HEADER_BYTES <= segmentSize) {
+            int length = segment.buffer.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length > segmentSize) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            segment.buffer.get(offset + HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != segment.buffer.getInt(offset + 4)) {
+                log.warn("Discarding torn log record: segment={}, offset={}", segmentPath(segment.seq), offset);
+                break;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    private Segment openSegment(long seq) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(seq),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        return new Segment(seq, channel, buffer);
+    }
+
+    private List<Path> listSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().startsWith(segmentPrefix))
+                    .sorted((a, b) -> Long.compare(segmentSeq(a), segmentSeq(b)))
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long seq) {
+        return directory.resolve(String.format("%s%020d%s", segmentPrefix, seq, SEGMENT_SUFFIX));
+    }
+
+    private long segmentSeq(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(segmentPrefix.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class Segment {
+        private final long seq;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private volatile int writePosition;
+        private volatile int forcedPosition;
+
+        private Segment(long seq, FileChannel channel, MappedByteBuffer buffer) {
+            this.seq = seq;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+}
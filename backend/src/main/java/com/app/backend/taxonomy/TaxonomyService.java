@@ -0,0 +1,164 @@
+package com.app.backend.taxonomy;
+
+import com.app.backend.catalog.Car;
+import com.app.backend.catalog.CarCatalog;
+import com.app.backend.catalog.CatalogService;
+import com.app.backend.exceptions.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class TaxonomyService {
+
+    private final Map<String, TaxonomyTree> trees;
+
+    // Per taxonomy: (term ordinal << 32 | car position), sorted, so the cars tagged anywhere in
+    // a subtree are one contiguous slice found by two binary searches
+    private record EntryIndex(CarCatalog catalog, Map<String, long[]> postings) {
+    }
+
+    private volatile EntryIndex entryIndex;
+
+    public TaxonomyService(
+            @Value("${taxonomy.directory:../resources/taxonomies}") String directory,
+            ObjectMapper objectMapper,
+            CatalogService catalogService) {
+        this.trees = load(Path.of(directory).toAbsolutePath().normalize(), objectMapper);
+        catalogService.addListener(this::indexEntries);
+    }
+
+    public TaxonomyTree getTree(String taxonomyUid) {
+        return findTree(taxonomyUid)
+                .orElseThrow(() -> new ResourceNotFoundException("Taxonomy not found: " + taxonomyUid));
+    }
+
+    public Optional<TaxonomyTree> findTree(String taxonomyUid) {
+        return Optional.ofNullable(trees.get(taxonomyUid));
+    }
+
+    public int getTermOrdinal(String taxonomyUid, String termUid) {
+        int ordinal = getTree(taxonomyUid).ordinalOf(termUid);
+        if (ordinal < 0) {
+            throw new ResourceNotFoundException("Taxonomy term not found: " + taxonomyUid + "/" + termUid);
+        }
+        return ordinal;
+    }
+
+    // Cars tagged with the term or any of its descendants, in catalog order
+    public List<Car> getCarsUnder(String taxonomyUid, String termUid) {
+        TaxonomyTree tree = getTree(taxonomyUid);
+        int ordinal = getTermOrdinal(taxonomyUid, termUid);
+        EntryIndex current = entryIndex;
+        long[] postings = current.postings().get(taxonomyUid);
+        if (postings == null) {
+            return List.of();
+        }
+
+        int from = lowerBound(postings, (long) ordinal << 32);
+        int to = lowerBound(postings, (long) tree.subtreeEnd(ordinal) << 32);
+        BitSet positions = new BitSet(current.catalog().size());
+        for (int i = from; i < to; i++) {
+            positions.set((int) postings[i]);
+        }
+
+        List<Car> cars = new ArrayList<>(positions.cardinality());
+        for (int p = positions.nextSetBit(0); p >= 0; p = positions.nextSetBit(p + 1)) {
+            cars.add(current.catalog().get(p));
+        }
+        return cars;
+    }
+
+    private void indexEntries(CarCatalog catalog) {
+        Map<String, long[]> postings = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (int position = 0; position < catalog.size(); position++) {
+            for (Car.TaxonomyRef ref : catalog.get(position).taxonomies()) {
+                TaxonomyTree tree = trees.get(ref.taxonomyUid());
+                if (tree == null) {
+                    continue;
+                }
+                int ordinal = tree.ordinalOf(ref.termUid());
+                if (ordinal < 0) {
+                    log.debug("Car references unknown taxonomy term: taxonomy={}, term={}",
+                            ref.taxonomyUid(), ref.termUid());
+                    continue;
+                }
+                long[] list = postings.computeIfAbsent(ref.taxonomyUid(), k -> new long[8]);
+                int count = counts.getOrDefault(ref.taxonomyUid(), 0);
+                if (count == list.length) {
+                    list = Arrays.copyOf(list, count * 2);
+                    postings.put(ref.taxonomyUid(), list);
+                }
+                list[count] = (long) ordinal << 32 | position;
+                counts.put(ref.taxonomyUid(), count + 1);
+            }
+        }
+        postings.replaceAll((taxonomyUid, list) -> {
+            long[] trimmed = Arrays.copyOf(list, counts.get(taxonomyUid));
+            Arrays.sort(trimmed);
+            return trimmed;
+        });
+        entryIndex = new EntryIndex(catalog, Map.copyOf(postings));
+    }
+
+    private static Map<String, TaxonomyTree> load(Path directory, ObjectMapper objectMapper) {
+        Map<String, TaxonomyTree> loaded = new HashMap<>();
+        if (!Files.isDirectory(directory)) {
+            log.warn("Taxonomy directory not found, no taxonomies loaded: path={}", directory);
+            return Map.of();
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                try {
+                    JsonNode root = objectMapper.readTree(file.toFile());
+                    String uid = root.path("taxonomy").path("uid").asText(null);
+                    if (uid == null) {
+                        log.warn("Skipping taxonomy file without taxonomy.uid: path={}", file);
+                        continue;
+                    }
+                    List<TaxonomyTerm> terms = new ArrayList<>();
+                    for (JsonNode term : root.path("terms")) {
+                        terms.add(objectMapper.treeToValue(term, TaxonomyTerm.class));
+                    }
+                    loaded.put(uid, new TaxonomyTree(uid, terms));
+                    log.info("Taxonomy loaded: uid={}, terms={}", uid, terms.size());
+                } catch (IOException e) {
+                    log.error("Failed to load taxonomy: path={}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to list taxonomies: path={}", directory, e);
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private static int lowerBound(long[] sorted, long target) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,11 @@
+package com.app.backend.taxonomy;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+// Term as exported by the CMS (resources/taxonomies/*.json)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TaxonomyTerm(String uid, String name, String parentUid) {
+}
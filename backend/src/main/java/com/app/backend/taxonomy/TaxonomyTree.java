@@ -0,0 +1,160 @@
+package com.app.backend.taxonomy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Immutable array encoding of one taxonomy. Terms are numbered in pre-order, so the subtree of
+// a term is the contiguous range [term, end[term]) and "a is an ancestor of b" is a range check.
+@Slf4j
+public final class TaxonomyTree {
+
+    private final String uid;
+    private final String[] uids;
+    private final String[] names;
+    private final int[] parents;
+    private final int[] depths;
+    private final int[] ends;
+    private final Map<String, Integer> ordinals;
+
+    public TaxonomyTree(String uid, List<TaxonomyTerm> terms) {
+        this.uid = uid;
+
+        Map<String, Integer> input = new HashMap<>();
+        for (int i = 0; i < terms.size(); i++) {
+            if (input.putIfAbsent(terms.get(i).uid(), i) != null) {
+                log.warn("Duplicate taxonomy term ignored: taxonomy={}, term={}", uid, terms.get(i).uid());
+            }
+        }
+
+        // Children in input order; unknown parents make a term a root
+        int n = terms.size();
+        List<List<Integer>> children = new ArrayList<>(n);
+        List<Integer> roots = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            children.add(new ArrayList<>());
+        }
+        for (int i = 0; i < n; i++) {
+            if (input.get(terms.get(i).uid()) != i) {
+                continue;
+            }
+            Integer parent = terms.get(i).parentUid() != null ? input.get(terms.get(i).parentUid()) : null;
+            if (parent == null) {
+                roots.add(i);
+            } else {
+                children.get(parent).add(i);
+            }
+        }
+
+        int[] ordinalOf = new int[n];
+        Arrays.fill(ordinalOf, -1);
+        List<Integer> order = new ArrayList<>(n);
+        List<Integer> orderDepths = new ArrayList<>(n);
+        for (int root : roots) {
+            visit(root, children, ordinalOf, order, orderDepths);
+        }
+        // Whatever is left sits on a parent cycle; break it at the first term encountered
+        for (int i = 0; i < n; i++) {
+            if (ordinalOf[i] < 0 && input.get(terms.get(i).uid()) == i) {
+                log.warn("Taxonomy term on a parent cycle treated as root: taxonomy={}, term={}",
+                        uid, terms.get(i).uid());
+                visit(i, children, ordinalOf, order, orderDepths);
+            }
+        }
+
+        int size = order.size();
+        this.uids = new String[size];
+        this.names = new String[size];
+        this.parents = new int[size];
+        this.depths = new int[size];
+        this.ends = new int[size];
+        Map<String, Integer> byUid = new HashMap<>(size * 4 / 3 + 1);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            TaxonomyTerm term = terms.get(order.get(ordinal));
+            uids[ordinal] = term.uid();
+            names[ordinal] = term.name();
+            depths[ordinal] = orderDepths.get(ordinal);
+            Integer parent = term.parentUid() != null ? input.get(term.parentUid()) : null;
+            parents[ordinal] = parent != null && depths[ordinal] > 0 ? ordinalOf[parent] : -1;
+            byUid.put(term.uid(), ordinal);
+        }
+        // A subtree ends at the next term that is not deeper than its root
+        Deque<Integer> open = new ArrayDeque<>();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            while (!open.isEmpty() && depths[open.peek()] >= depths[ordinal]) {
+                ends[open.pop()] = ordinal;
+            }
+            open.push(ordinal);
+        }
+        while (!open.isEmpty()) {
+            ends[open.pop()] = size;
+        }
+        this.ordinals = Map.copyOf(byUid);
+    }
+
+    // Iterative pre-order walk so deep trees cannot overflow the stack
+    private static void visit(int start, List<List<Integer>> children, int[] ordinalOf,
+                              List<Integer> order, List<Integer> orderDepths) {
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{start, 0});
+        while (!stack.isEmpty()) {
+            int[] frame = stack.pop();
+            int term = frame[0];
+            if (ordinalOf[term] >= 0) {
+                continue;
+            }
+            ordinalOf[term] = order.size();
+            order.add(term);
+            orderDepths.add(frame[1]);
+            List<Integer> kids = children.get(term);
+            for (int k = kids.size() - 1; k >= 0; k--) {
+                stack.push(new int[]{kids.get(k), frame[1] + 1});
+            }
+        }
+    }
+
+    public String uid() {
+        return uid;
+    }
+
+    public int size() {
+        return uids.length;
+    }
+
+    // Pre-order ordinal of a term, or -1 when unknown
+    public int ordinalOf(String termUid) {
+        Integer ordinal = ordinals.get(termUid);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    // Exclusive end of the ordinal range covered by the term's subtree
+    public int subtreeEnd(int ordinal) {
+        return ends[ordinal];
+    }
+
+    public boolean isAncestorOrSelf(int ancestor, int descendant) {
+        return ancestor <= descendant && descendant < ends[ancestor];
+    }
+
+    public String termUid(int ordinal) {
+        return uids[ordinal];
+    }
+
+    public String name(int ordinal) {
+        return names[ordinal];
+    }
+
+    public int parent(int ordinal) {
+        return parents[ordinal];
+    }
+
+    public int depth(int ordinal) {
+        return depths[ordinal];
+    }
+}
@@ -0,0 +1,219 @@
+package com.app.backend.typeahead;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+// Immutable prefix index. Nodes live in parallel arrays in breadth-first order with each
+// node's children contiguous and sorted by label, and every node carries its precomputed
+// top-k suggestion ids. A lookup is one binary search per typed character plus an array copy.
+public final class SuggestionTrie {
+
+    public static final int MAX_RESULTS = 10;
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final byte[] topCount;
+    private final int[] top;
+
+    private SuggestionTrie(char[] labels, int[] firstChild, int[] childCount,
+                           int[] topStart, byte[] topCount, int[] top) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.top = top;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    // Writes up to out.length suggestion ids, best first, and returns how many were written.
+    // Case and repeated whitespace in the prefix are ignored. Does not allocate.
+    public int complete(CharSequence prefix, int[] out) {
+        int node = 0;
+        boolean pendingSpace = false;
+        boolean started = false;
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                node = child(node, ' ');
+                pendingSpace = false;
+                if (node < 0) {
+                    return 0;
+                }
+            }
+            node = child(node, Character.toLowerCase(c));
+            started = true;
+            if (node < 0) {
+                return 0;
+            }
+        }
+        if (pendingSpace) {
+            int spaced = child(node, ' ');
+            node = spaced >= 0 ? spaced : node;
+        }
+        int count = Math.min(topCount[node], out.length);
+        System.arraycopy(top, topStart[node], out, 0, count);
+        return count;
+    }
+
+    private int child(int node, char label) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midLabel = labels[mid];
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // Collects keys for suggestions; a suggestion may be reachable through several keys
+    public static final class Builder {
+
+        private static final class Node {
+            final TreeMap<Character, Node> children = new TreeMap<>();
+            final List<Integer> terminals = new ArrayList<>(1);
+        }
+
+        private final Node root = new Node();
+        private final int[] weights;
+
+        // weights[id] ranks suggestion id; higher comes first
+        public Builder(int[] weights) {
+            this.weights = weights;
+        }
+
+        public Builder add(String key, int suggestionId) {
+            String normalized = normalize(key);
+            if (normalized.isEmpty()) {
+                return this;
+            }
+            Node node = root;
+            for (int i = 0; i < normalized.length(); i++) {
+                node = node.children.computeIfAbsent(normalized.charAt(i), c -> new Node());
+            }
+            if (!node.terminals.contains(suggestionId)) {
+                node.terminals.add(suggestionId);
+            }
+            return this;
+        }
+
+        public SuggestionTrie build() {
+            // Breadth-first numbering keeps siblings adjacent
+            List<Node> order = new ArrayList<>();
+            List<Character> nodeLabels = new ArrayList<>();
+            Deque<Node> queue = new ArrayDeque<>();
+            order.add(root);
+            nodeLabels.add('\0');
+            queue.add(root);
+            int[] firstChildOf = new int[16];
+            int visited = 0;
+            while (!queue.isEmpty()) {
+                Node node = queue.poll();
+                if (visited == firstChildOf.length) {
+                    firstChildOf = Arrays.copyOf(firstChildOf, visited * 2);
+                }
+                firstChildOf[visited++] = order.size();
+                node.children.forEach((label, child) -> {
+                    order.add(child);
+                    nodeLabels.add(label);
+                    queue.add(child);
+                });
+            }
+
+            int size = order.size();
+            char[] labels = new char[size];
+            int[] firstChild = Arrays.copyOf(firstChildOf, size);
+            int[] childCount = new int[size];
+            for (int i = 0; i < size; i++) {
+                labels[i] = nodeLabels.get(i);
+                childCount[i] = order.get(i).children.size();
+            }
+
+            // Children always follow their parent, so a reverse sweep sees them first
+            int[][] best = new int[size][];
+            for (int i = size - 1; i >= 0; i--) {
+                int[] merged = order.get(i).terminals.stream().mapToInt(Integer::intValue).toArray();
+                merged = topK(merged);
+                for (int c = firstChild[i]; c < firstChild[i] + childCount[i]; c++) {
+                    merged = merge(merged, best[c]);
+                }
+                best[i] = merged;
+            }
+
+            int[] topStart = new int[size];
+            byte[] topCount = new byte[size];
+            int total = 0;
+            for (int[] ids : best) {
+                total += ids.length;
+            }
+            int[] top = new int[total];
+            int offset = 0;
+            for (int i = 0; i < size; i++) {
+                topStart[i] = offset;
+                topCount[i] = (byte) best[i].length;
+                System.arraycopy(best[i], 0, top, offset, best[i].length);
+                offset += best[i].length;
+            }
+            return new SuggestionTrie(labels, firstChild, childCount, topStart, topCount, top);
+        }
+
+        private int[] topK(int[] ids) {
+            Integer[] boxed = Arrays.stream(ids).boxed().toArray(Integer[]::new);
+            Arrays.sort(boxed, (a, b) -> compare(a, b));
+            return Arrays.stream(boxed).limit(MAX_RESULTS).mapToInt(Integer::intValue).toArray();
+        }
+
+        private int[] merge(int[] a, int[] b) {
+            int[] merged = new int[Math.min(MAX_RESULTS, a.length + b.length)];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (n < merged.length && (i < a.length || j < b.length)) {
+                int next = j >= b.length || (i < a.length && compare(a[i], b[j]) <= 0) ? a[i++] : b[j++];
+                if (!contains(merged, n, next)) {
+                    merged[n++] = next;
+                }
+            }
+            return n == merged.length ? merged : Arrays.copyOf(merged, n);
+        }
+
+        private int compare(int a, int b) {
+            int byWeight = Integer.compare(weights[b], weights[a]);
+            return byWeight != 0 ? byWeight : Integer.compare(a, b);
+        }
+
+        private static boolean contains(int[] ids, int length, int id) {
+            for (int i = 0; i < length; i++) {
+                if (ids[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
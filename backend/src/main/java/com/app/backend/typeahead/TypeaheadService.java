@@ -0,0 +1,169 @@
+package com.app.backend.typeahead;
+
+import com.app.backend.catalog.Car;
+import com.app.backend.catalog.CarCatalog;
+import com.app.backend.catalog.CatalogService;
+import com.app.backend.dtos.SuggestionResponse;
+import com.app.backend.popularity.PopularityDimension;
+import com.app.backend.popularity.PopularityService;
+import com.app.backend.taxonomy.TaxonomyService;
+import com.app.backend.taxonomy.TaxonomyTree;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class TypeaheadService {
+
+    public static final String TYPE_CAR = "car";
+    public static final String TYPE_BRAND = "brand";
+    public static final String TYPE_MODEL = "model";
+    public static final String TYPE_TERM = "term";
+
+    private static final String CARS_TAXONOMY = "cars_india";
+
+    // Base weights: a concrete car beats a brand or model of the same prefix
+    private static final int CAR_WEIGHT = 1000;
+    private static final int FEATURED_BONUS = 500;
+    // Recent interests and test drives lift a car, capped so a car never outranks a featured one by demand alone
+    private static final int MAX_POPULARITY_BONUS = 499;
+    private static final int BRAND_WEIGHT = 800;
+    private static final int MODEL_WEIGHT = 700;
+    private static final int TERM_WEIGHT = 400;
+    // Titles are also reachable from their 2nd..4th word, e.g. "nexon" -> "Tata Nexon XZ+ ..."
+    private static final int MAX_TITLE_WORD_KEYS = 4;
+
+    private record Suggestion(String text, String type, String id, int weight) {
+    }
+
+    private record Snapshot(SuggestionTrie trie, Suggestion[] suggestions) {
+    }
+
+    private final TaxonomyService taxonomyService;
+    private final PopularityService popularityService;
+    private volatile Snapshot snapshot;
+
+    public TypeaheadService(
+            CatalogService catalogService,
+            TaxonomyService taxonomyService,
+            PopularityService popularityService) {
+        this.taxonomyService = taxonomyService;
+        this.popularityService = popularityService;
+        catalogService.addListener(this::rebuild);
+        // Re-rank once per popularity bucket
+        popularityService.addRotationListener(() -> rebuild(catalogService.getCatalog()));
+    }
+
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        int[] ids = new int[Math.min(limit, SuggestionTrie.MAX_RESULTS)];
+        int count = current.trie().complete(prefix, ids);
+
+        List<SuggestionResponse> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Suggestion suggestion = current.suggestions()[ids[i]];
+            results.add(SuggestionResponse.builder()
+                    .text(suggestion.text())
+                    .type(suggestion.type())
+                    .id(suggestion.id())
+                    .build());
+        }
+        return results;
+    }
+
+    private synchronized void rebuild(CarCatalog catalog) {
+        long start = System.nanoTime();
+        List<Suggestion> suggestions = new ArrayList<>();
+        List<List<String>> keys = new ArrayList<>();
+        Map<String, Integer> brands = new HashMap<>();
+        Map<String, Integer> models = new HashMap<>();
+
+        for (Car car : catalog.cars()) {
+            if (car.title() != null) {
+                long popularity = popularityService.count(PopularityDimension.CAR, car.id());
+                suggestions.add(new Suggestion(car.title(), TYPE_CAR, car.id(), CAR_WEIGHT
+                        + (car.isFeatured() ? FEATURED_BONUS : 0)
+                        + (int) Math.min(popularity, MAX_POPULARITY_BONUS)));
+                keys.add(titleKeys(car.title()));
+            }
+            // Brands and models rank by how many cars carry them
+            if (car.brand() != null) {
+                bump(brands, car.brand(), BRAND_WEIGHT, TYPE_BRAND, suggestions, keys, List.of(car.brand()));
+            }
+            if (car.model() != null) {
+                String name = car.brand() != null ? car.brand() + " " + car.model() : car.model();
+                bump(models, name, MODEL_WEIGHT, TYPE_MODEL, suggestions, keys, List.of(name, car.model()));
+            }
+        }
+
+        taxonomyService.findTree(CARS_TAXONOMY).ifPresent(tree -> {
+            for (int ordinal = 0; ordinal < tree.size(); ordinal++) {
+                String path = pathName(tree, ordinal, 0);
+                String normalized = SuggestionTrie.normalize(path);
+                // The catalog already suggests this make or model
+                if (brands.containsKey(normalized) || models.containsKey(normalized)) {
+                    continue;
+                }
+                List<String> termKeys = new ArrayList<>(List.of(path));
+                if (tree.depth(ordinal) > 0) {
+                    // "Swift Petrol" for a variant; a bare "Petrol" would be meaningless
+                    termKeys.add(pathName(tree, ordinal, 1));
+                }
+                suggestions.add(new Suggestion(path, TYPE_TERM, tree.termUid(ordinal),
+                        TERM_WEIGHT - tree.depth(ordinal)));
+                keys.add(termKeys);
+            }
+        });
+
+        int[] weights = suggestions.stream().mapToInt(Suggestion::weight).toArray();
+        SuggestionTrie.Builder builder = new SuggestionTrie.Builder(weights);
+        for (int id = 0; id < suggestions.size(); id++) {
+            for (String key : keys.get(id)) {
+                builder.add(key, id);
+            }
+        }
+        SuggestionTrie trie = builder.build();
+        snapshot = new Snapshot(trie, suggestions.toArray(Suggestion[]::new));
+        log.info("Typeahead index built: suggestions={}, nodes={}, took={}ms",
+                suggestions.size(), trie.nodeCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void bump(Map<String, Integer> seen, String text, int baseWeight, String type,
+                             List<Suggestion> suggestions, List<List<String>> keys, List<String> textKeys) {
+        String normalized = SuggestionTrie.normalize(text);
+        Integer id = seen.get(normalized);
+        if (id == null) {
+            seen.put(normalized, suggestions.size());
+            suggestions.add(new Suggestion(text, type, normalized, baseWeight + 1));
+            keys.add(textKeys);
+        } else {
+            Suggestion existing = suggestions.get(id);
+            suggestions.set(id, new Suggestion(existing.text(), type, existing.id(), existing.weight() + 1));
+        }
+    }
+
+    private static List<String> titleKeys(String title) {
+        List<String> titleKeys = new ArrayList<>();
+        titleKeys.add(title);
+        String[] words = title.trim().split("\\s+");
+        for (int w = 1; w < Math.min(words.length, MAX_TITLE_WORD_KEYS); w++) {
+            titleKeys.add(String.join(" ", List.of(words).subList(w, words.length)));
+        }
+        return titleKeys;
+    }
+
+    // Names from the given depth down to the term, e.g. "Maruti Suzuki Swift Petrol" from depth 0
+    private static String pathName(TaxonomyTree tree, int ordinal, int fromDepth) {
+        StringBuilder name = new StringBuilder(tree.name(ordinal));
+        for (int parent = tree.parent(ordinal); parent >= 0 && tree.depth(parent) >= fromDepth;
+             parent = tree.parent(parent)) {
+            name.insert(0, tree.name(parent) + " ");
+        }
+        return name.toString();
+    }
+}
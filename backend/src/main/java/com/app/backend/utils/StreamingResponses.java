@@ -0,0 +1,47 @@
+package com.app.backend.utils;
+
+import com.app.backend.repository.PageStream;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public final class StreamingResponses {
+
+    private StreamingResponses() {
+        // Utility class - prevent instantiation
+    }
+
+    // Writes {"success":true,"data":[...],"nextPageToken":...} one item at a time. Once the
+    // first byte is sent the status cannot change, so a mid-stream failure aborts the response.
+    public static <T> StreamingResponseBody page(ObjectMapper objectMapper, PageStream<T> stream) {
+        ObjectWriter itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeArrayFieldStart("data");
+
+                boolean first = true;
+                for (T item = stream.next(); item != null; item = stream.next()) {
+                    itemWriter.writeValue(generator, item);
+                    if (first) {
+                        // Get the first bytes to the client as soon as the first document arrives
+                        generator.flush();
+                        first = false;
+                    }
+                }
+
+                generator.writeEndArray();
+                String nextPageToken = stream.nextPageToken();
+                if (nextPageToken != null) {
+                    generator.writeStringField("nextPageToken", nextPageToken);
+                }
+                generator.writeEndObject();
+            }
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package com.app.backend.auth;
+
+import com.app.backend.exceptions.UnauthorizedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalJwtTokenVerifierTest {
+
+    private static final String PROJECT_ID = "autostacks-test";
+    private static final String ISSUER = "https://securetoken.google.com/" + PROJECT_ID;
+    private static final String KEY_ID = "key-1";
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static KeyPair signingKeys;
+    private static KeyPair otherKeys;
+
+    private final LocalJwtTokenVerifier verifier = new LocalJwtTokenVerifier(
+            keyId -> KEY_ID.equals(keyId) ? signingKeys.getPublic() : null,
+            OBJECT_MAPPER,
+            Clock.fixed(NOW, ZoneOffset.UTC),
+            PROJECT_ID);
+
+    @BeforeAll
+    static void generateKeys() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKeys = generator.generateKeyPair();
+        otherKeys = generator.generateKeyPair();
+    }
+
+    @Test
+    void acceptsValidToken() throws Exception {
+        VerifiedToken token = verifier.verify(sign(header(KEY_ID), claims(), signingKeys.getPrivate()));
+
+        assertEquals("user-1", token.uid());
+        assertEquals("user-1@example.com", token.email());
+        assertTrue(token.emailVerified());
+        assertEquals(NOW.plusSeconds(3600).getEpochSecond(), token.expiresAtEpochSeconds());
+    }
+
+    @Test
+    void rejectsExpiredToken() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("iat", NOW.minusSeconds(7200).getEpochSecond());
+        claims.put("exp", NOW.minusSeconds(3600).getEpochSecond());
+
+        assertRejected(sign(header(KEY_ID), claims, signingKeys.getPrivate()), "Token has expired");
+    }
+
+    @Test
+    void acceptsTokenExpiredWithinClockSkew() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("exp", NOW.minusSeconds(59).getEpochSecond());
+
+        assertEquals("user-1", verifier.verify(sign(header(KEY_ID), claims, signingKeys.getPrivate())).uid());
+    }
+
+    @Test
+    void rejectsTokenExpiredBeyondClockSkew() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("exp", NOW.minusSeconds(60).getEpochSecond());
+
+        assertRejected(sign(header(KEY_ID), claims, signingKeys.getPrivate()), "Token has expired");
+    }
+
+    @Test
+    void acceptsTokenIssuedWithinClockSkew() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("iat", NOW.plusSeconds(60).getEpochSecond());
+
+        assertEquals("user-1", verifier.verify(sign(header(KEY_ID), claims, signingKeys.getPrivate())).uid());
+    }
+
+    @Test
+    void rejectsTokenIssuedBeyondClockSkew() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("iat", NOW.plusSeconds(61).getEpochSecond());
+
+        assertRejected(sign(header(KEY_ID), claims, signingKeys.getPrivate()), "Token issued in the future");
+    }
+
+    @Test
+    void rejectsWrongAudience() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("aud", "another-project");
+
+        assertRejected(sign(header(KEY_ID), claims, signingKeys.getPrivate()), "Invalid token audience: another-project");
+    }
+
+    @Test
+    void rejectsWrongIssuer() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("iss", "https://securetoken.google.com/another-project");
+
+        assertRejected(sign(header(KEY_ID), claims, signingKeys.getPrivate()),
+                "Invalid token issuer: https://securetoken.google.com/another-project");
+    }
+
+    @Test
+    void rejectsUnknownKeyId() throws Exception {
+        assertRejected(sign(header("key-2"), claims(), signingKeys.getPrivate()), "Unknown token signing key: key-2");
+    }
+
+    @Test
+    void rejectsSignatureFromAnotherKey() throws Exception {
+        assertRejected(sign(header(KEY_ID), claims(), otherKeys.getPrivate()), "Invalid token signature");
+    }
+
+    @Test
+    void rejectsTamperedPayload() throws Exception {
+        String token = sign(header(KEY_ID), claims(), signingKeys.getPrivate());
+        String[] parts = token.split("\\.");
+        Map<String, Object> claims = claims();
+        claims.put("sub", "user-2");
+        String tampered = parts[0] + "." + encode(claims) + "." + parts[2];
+
+        assertRejected(tampered, "Invalid token signature");
+    }
+
+    @Test
+    void rejectsUnsupportedAlgorithm() throws Exception {
+        Map<String, Object> header = header(KEY_ID);
+        header.put("alg", "none");
+
+        assertRejected(sign(header, claims(), signingKeys.getPrivate()), "Unsupported token algorithm: none");
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertRejected("not-a-token", "Malformed ID token");
+        assertRejected("a.b.", "Malformed ID token");
+        assertRejected("a.b.c.d", "Malformed ID token");
+    }
+
+    private void assertRejected(String token, String message) {
+        UnauthorizedException e = assertThrows(UnauthorizedException.class, () -> verifier.verify(token));
+        assertEquals(message, e.getMessage());
+    }
+
+    private static Map<String, Object> header(String keyId) {
+        Map<String, Object> header = new HashMap<>();
+        header.put("alg", "RS256");
+        header.put("typ", "JWT");
+        header.put("kid", keyId);
+        return header;
+    }
+
+    private static Map<String, Object> claims() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("iss", ISSUER);
+        claims.put("aud", PROJECT_ID);
+        claims.put("sub", "user-1");
+        claims.put("email", "user-1@example.com");
+        claims.put("email_verified", true);
+        claims.put("auth_time", NOW.minusSeconds(600).getEpochSecond());
+        claims.put("iat", NOW.minusSeconds(60).getEpochSecond());
+        claims.put("exp", NOW.plusSeconds(3600).getEpochSecond());
+        return claims;
+    }
+
+    private static String sign(Map<String, Object> header, Map<String, Object> claims, PrivateKey key)
+            throws Exception {
+        String signingInput = encode(header) + "." + encode(claims);
+        Signature signer = Signature.getInstance("SHA256withRSA");
+        signer.initSign(key);
+        signer.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signer.sign());
+    }
+
+    private static String encode(Map<String, Object> json) throws Exception {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(json));
+    }
+}
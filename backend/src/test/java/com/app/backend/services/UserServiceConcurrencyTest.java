@@ -0,0 +1,128 @@
+package com.app.backend.services;
+
+import com.app.backend.dtos.UserProfileRequest;
+import com.app.backend.dtos.UserProfileResponse;
+import com.app.backend.exceptions.ResourceNotFoundException;
+import com.app.backend.repository.Registration;
+import com.app.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class UserServiceConcurrencyTest {
+
+    private static final int CALLERS = 64;
+    private static final String UID = "user-1";
+
+    private ExecutorService callers;
+    private CountingUserRepository userRepository;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        callers = Executors.newFixedThreadPool(CALLERS);
+        userRepository = new CountingUserRepository();
+        UserProfileCache profileCache = new UserProfileCache(
+                true, 100, Duration.ofSeconds(60), Duration.ofSeconds(5), false,
+                userRepository, new SimpleMeterRegistry());
+        userService = new UserService(userRepository, uid -> CompletableFuture.failedFuture(
+                new UnsupportedOperationException()), profileCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @RepeatedTest(20)
+    void concurrentFirstRequestsCreateTheUserOnce() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<UserProfileResponse>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                awaitUninterruptibly(start);
+                return userService.getOrCreateUser(UID, "user-1@example.com");
+            }, callers).thenCompose(future -> future));
+        }
+        start.countDown();
+
+        UserProfileResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<UserProfileResponse> result : results) {
+            assertEquals(first, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, userRepository.creates.get());
+        assertSame(userRepository.users.get(UID), first);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // In-memory repository whose reads and creates complete asynchronously after a short delay,
+    // widening the window in which concurrent callers would race to create the same user
+    private static final class CountingUserRepository implements UserRepository {
+
+        private static final Executor DELAYED = CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS);
+
+        final ConcurrentMap<String, UserProfileResponse> users = new ConcurrentHashMap<>();
+        final AtomicInteger creates = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<UserProfileResponse> createUserIfAbsent(
+                String uid, String email, UserProfileRequest request) {
+            creates.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> users.computeIfAbsent(uid, key ->
+                    UserProfileResponse.builder()
+                            .uid(uid)
+                            .email(email)
+                            .name(request.getName())
+                            .city(request.getCity())
+                            .build()), DELAYED);
+        }
+
+        @Override
+        public CompletableFuture<UserProfileResponse> getUser(String uid) {
+            return CompletableFuture.supplyAsync(() -> {
+                UserProfileResponse profile = users.get(uid);
+                if (profile == null) {
+                    throw new ResourceNotFoundException("User not found: " + uid);
+                }
+                return profile;
+            }, DELAYED);
+        }
+
+        @Override
+        public CompletableFuture<UserProfileResponse> updateUser(
+                String uid, UserProfileRequest request, UserProfileResponse priorState) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Registration listenToUser(String uid, Consumer<UserProfileResponse> onChange) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -5,12 +5,22 @@ import { useParams, useRouter } from 'next/navigation';
 import { ChevronLeft, Loader2 } from 'lucide-react';
 import Link from 'next/link';
 import { Button } from '@/components/ui/Button';
-import { Input } from '@/components/ui/Input';
+import { Input, Select } from '@/components/ui/Input';
 import { Modal, ModalFooter } from '@/components/ui/Modal';
 import CarDetails from '@/components/CarDetails';
 import { fetchCarByUid, fetchCarBySlug, fetchCarVariants, type CarEntry, type CarVariant } from '@/lib/contentstack';
-import { postInterest, postTestDrive, getCurrentUser } from '@/lib/firebase';
-import { formatDateForInput } from '@/utils/formatters';
+import {
+  ApiError,
+  postInterest,
+  postTestDrive,
+  getTestDriveAvailability,
+  getComposite,
+  getCurrentUser,
+  type Interest,
+  type TestDrive,
+  type TestDriveSlot,
+} from '@/lib/firebase';
+import { formatDate, formatDateForInput, formatStatus } from '@/utils/formatters';
 import { isValidEmail, isFutureDate } from '@/utils/validators';
 
 // Sample car data for development
@@ -464,11 +474,24 @@ export default function CarDetailPage() {
   // Form states
   const [interestEmail, setInterestEmail] = useState('');
   const [testDriveDate, setTestDriveDate] = useState('');
+  const [testDriveSlot, setTestDriveSlot] = useState('');
+  // null when the backend does not schedule slots; the date alone is sent then
+  const [availableSlots, setAvailableSlots] = useState<TestDriveSlot[] | null>(null);
+  // Set when slots could not be loaded although the backend may schedule them; it would
+  // reject a date-only request then, so booking waits until they load
+  const [availabilityFailed, setAvailabilityFailed] = useState(false);
+  // The signed-in user's latest interest and test drive for this car, if any
+  const [existingInterest, setExistingInterest] = useState<Interest | null>(null);
+  const [latestTestDrive, setLatestTestDrive] = useState<TestDrive | null>(null);
 
   useEffect(() => {
     loadCarDetails();
   }, [carId]);
 
+  useEffect(() => {
+    loadUserState();
+  }, [car]);
+
   const loadCarDetails = async () => {
     setLoading(true);
     try {
@@ -513,6 +536,29 @@ export default function CarDetailPage() {
     }
   };
 
+  // One round trip for the user's state on this car and the dealer's free slots. Parts
+  // that fail or miss the deadline are left out; the modals still work without them.
+  const loadUserState = async () => {
+    if (!car || !getCurrentUser()) return;
+    try {
+      const { parts } = await getComposite({
+        parts: ['interests', 'testDrives', 'availability'],
+        carId: car.uid,
+        dealerId: car.dealer_name || 'autostack',
+        days: 30,
+        limit: 1,
+      });
+      setExistingInterest(parts.interests?.data?.[0] ?? null);
+      setLatestTestDrive(parts.testDrives?.data?.[0] ?? null);
+      if (parts.availability?.status === 'ok') {
+        setAvailableSlots(parts.availability.data ?? null);
+        setAvailabilityFailed(false);
+      }
+    } catch (error) {
+      console.error('Error loading user state for car:', error);
+    }
+  };
+
   const handleInterestSubmit = async () => {
     if (!car) return;
 
@@ -526,10 +572,12 @@ export default function CarDetailPage() {
     setSubmitError('');
 
     try {
-      await postInterest({
-        carId: car.uid,
-        carOwner: car.dealer_name || 'autostack',
-      });
+      setExistingInterest(
+        await postInterest({
+          carId: car.uid,
+          carOwner: car.dealer_name || 'autostack',
+        })
+      );
       setSubmitSuccess(true);
       setTimeout(() => {
         setShowInterestModal(false);
@@ -550,6 +598,17 @@ export default function CarDetailPage() {
       return;
     }
 
+    if (availabilityFailed) {
+      setSubmitError('Could not load available time slots. Please try again.');
+      loadAvailability();
+      return;
+    }
+
+    if (availableSlots && !testDriveSlot) {
+      setSubmitError('Please select a time slot');
+      return;
+    }
+
     const user = getCurrentUser();
     if (!user) {
       router.push('/auth/login?redirect=' + encodeURIComponent(`/cars/${carId}`));
@@ -560,17 +619,20 @@ export default function CarDetailPage() {
     setSubmitError('');
 
     try {
-      await postTestDrive({
-        carId: car.uid,
-        carOwner: car.dealer_name || 'autostack',
-        dealerId: car.dealer_name || 'autostack',
-        preferredDate: new Date(testDriveDate).toISOString(),
-      });
+      setLatestTestDrive(
+        await postTestDrive({
+          carId: car.uid,
+          carOwner: car.dealer_name || 'autostack',
+          dealerId: car.dealer_name || 'autostack',
+          preferredDate: availableSlots ? testDriveSlot : new Date(testDriveDate).toISOString(),
+        })
+      );
       setSubmitSuccess(true);
       setTimeout(() => {
         setShowTestDriveModal(false);
         setSubmitSuccess(false);
         setTestDriveDate('');
+        setTestDriveSlot('');
       }, 2000);
     } catch (error: any) {
       setSubmitError(error.message || 'Failed to book test drive. Please try again.');
@@ -599,8 +661,24 @@ export default function CarDetailPage() {
     setShowTestDriveModal(true);
     setSubmitError('');
     setSubmitSuccess(false);
+    loadAvailability();
+  };
+
+  const loadAvailability = async () => {
+    if (!car) return;
+    try {
+      setAvailableSlots(await getTestDriveAvailability(car.dealer_name || 'autostack', 30));
+      setAvailabilityFailed(false);
+    } catch (error) {
+      // 400 means scheduling is disabled, and the date alone is sent
+      setAvailableSlots(null);
+      setAvailabilityFailed(!(error instanceof ApiError && error.status === 400));
+    }
   };
 
+  // Slot starts are local date-times ("2025-01-15T10:00:00"), so the date prefix selects a day
+  const slotsForDate = (availableSlots ?? []).filter((slot) => slot.start.startsWith(testDriveDate));
+
   // Get tomorrow's date for min date picker
   const tomorrow = new Date();
   tomorrow.setDate(tomorrow.getDate() + 1);
@@ -698,8 +776,9 @@ export default function CarDetailPage() {
           ) : (
             <>
               <p className="text-surface-600 mb-4">
-                Click confirm to express your interest. Our team will reach out to you
-                with more details about this car.
+                {existingInterest
+                  ? `You expressed interest in this car on ${formatDate(existingInterest.createdAt)}. Confirm to let our team know you're still interested.`
+                  : 'Click confirm to express your interest. Our team will reach out to you with more details about this car.'}
               </p>
 
               {submitError && (
@@ -761,17 +840,40 @@ export default function CarDetailPage() {
             </div>
           ) : (
             <>
+              {latestTestDrive && (
+                <p className="text-surface-600 mb-4">
+                  {`Your last test drive for this car is on ${formatDate(latestTestDrive.preferredDate)} (${formatStatus(latestTestDrive.status)}).`}
+                </p>
+              )}
               <div className="space-y-4">
                 <Input
                   type="date"
                   label="Preferred Date"
                   value={testDriveDate}
-                  onChange={(e) => setTestDriveDate(e.target.value)}
+                  onChange={(e) => {
+                    setTestDriveDate(e.target.value);
+                    setTestDriveSlot('');
+                  }}
                   min={minDate}
                   max={maxDateStr}
                   helperText="Select a date within the next 30 days"
                 />
 
+                {availableSlots && testDriveDate && (
+                  <Select
+                    label="Time Slot"
+                    value={testDriveSlot}
+                    onChange={(e) => setTestDriveSlot(e.target.value)}
+                    options={[
+                      { value: '', label: slotsForDate.length ? 'Select a time' : 'No free slots on this date' },
+                      ...slotsForDate.map((slot) => ({
+                        value: slot.start,
+                        label: `${slot.start.slice(11, 16)} - ${slot.end.slice(11, 16)}`,
+                      })),
+                    ]}
+                  />
+                )}
+
                 {submitError && (
                   <div className="p-3 rounded-lg bg-red-50 text-red-600 text-sm">
                     {submitError}
@@ -791,7 +893,7 @@ export default function CarDetailPage() {
                   variant="primary"
                   onClick={handleTestDriveSubmit}
                   isLoading={submitting}
-                  disabled={!testDriveDate}
+                  disabled={!testDriveDate || (availableSlots !== null && !testDriveSlot)}
                 >
                   Book Test Drive
                 </Button>
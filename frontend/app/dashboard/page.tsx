@@ -22,10 +22,8 @@ import { Badge, StatusBadge } from '@/components/ui/Badge';
 import {
   onAuthChange,
   logout,
-  getUserProfile,
+  getDashboard,
   updateUserProfile,
-  getInterests,
-  getTestDrives,
   type UserProfile,
   type Interest,
   type TestDrive,
@@ -39,6 +37,8 @@ export default function DashboardPage() {
   const [profile, setProfile] = useState<UserProfile | null>(null);
   const [interests, setInterests] = useState<Interest[]>([]);
   const [testDrives, setTestDrives] = useState<TestDrive[]>([]);
+  const [interestCount, setInterestCount] = useState(0);
+  const [testDriveCount, setTestDriveCount] = useState(0);
   const [loading, setLoading] = useState(true);
   const [activeTab, setActiveTab] = useState('profile');
 
@@ -64,31 +64,15 @@ export default function DashboardPage() {
   const loadData = async () => {
     setLoading(true);
     try {
-      // Load profile
-      try {
-        const profileData = await getUserProfile();
-        setProfile(profileData);
-        setName(profileData.name || '');
-        setCity(profileData.city || '');
-      } catch (error) {
-        console.log('Profile not found, using defaults');
-      }
-
-      // Load interests
-      try {
-        const interestsData = await getInterests();
-        setInterests(interestsData);
-      } catch (error) {
-        console.log('No interests found');
-      }
-
-      // Load test drives
-      try {
-        const testDrivesData = await getTestDrives();
-        setTestDrives(testDrivesData);
-      } catch (error) {
-        console.log('No test drives found');
-      }
+      // Profile, counts and recent activity in one request
+      const dashboard = await getDashboard();
+      setProfile(dashboard.profile);
+      setName(dashboard.profile.name || '');
+      setCity(dashboard.profile.city || '');
+      setInterests(dashboard.recentInterests);
+      setTestDrives(dashboard.recentTestDrives);
+      setInterestCount(dashboard.interestCount);
+      setTestDriveCount(dashboard.testDriveCount);
     } catch (error) {
       console.error('Error loading dashboard data:', error);
     } finally {
@@ -163,7 +147,7 @@ export default function DashboardPage() {
             </div>
             <div>
               <p className="text-2xl font-bold text-surface-900">
-                {interests.length}
+                {interestCount}
               </p>
               <p className="text-sm text-surface-500">Interests</p>
             </div>
@@ -175,7 +159,7 @@ export default function DashboardPage() {
             </div>
             <div>
               <p className="text-2xl font-bold text-surface-900">
-                {testDrives.length}
+                {testDriveCount}
               </p>
               <p className="text-sm text-surface-500">Test Drives</p>
             </div>
@@ -207,10 +191,10 @@ export default function DashboardPage() {
               Profile
             </TabsTrigger>
             <TabsTrigger value="interests" icon={<Heart className="w-4 h-4" />}>
-              Interests ({interests.length})
+              Interests ({interestCount})
             </TabsTrigger>
             <TabsTrigger value="test-drives" icon={<Car className="w-4 h-4" />}>
-              Test Drives ({testDrives.length})
+              Test Drives ({testDriveCount})
             </TabsTrigger>
           </TabsList>
 
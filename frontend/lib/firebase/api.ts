@@ -4,6 +4,9 @@ import { getIdToken } from './auth';
 
 const BACKEND_URL = process.env.NEXT_PUBLIC_BACKEND_URL || 'http://localhost:8080';
 
+// Page size used when reading a whole list; the backend caps pages at 100
+const LIST_PAGE_SIZE = 100;
+
 export interface ApiResponse<T> {
   success: boolean;
   data: T | null;
@@ -11,6 +14,7 @@ export interface ApiResponse<T> {
     message: string;
     code: string;
   } | null;
+  nextPageToken?: string;
 }
 
 export class ApiError extends Error {
@@ -26,12 +30,12 @@ export class ApiError extends Error {
 }
 
 /**
- * Make an authenticated API request
+ * Make an authenticated API request and return the whole response envelope
  */
-async function apiRequest<T>(
+async function apiResponse<T>(
   endpoint: string,
   options: RequestInit = {}
-): Promise<T> {
+): Promise<ApiResponse<T>> {
   const token = await getIdToken();
 
   if (!token) {
@@ -74,9 +78,42 @@ async function apiRequest<T>(
     );
   }
 
+  return data;
+}
+
+/**
+ * Make an authenticated API request
+ */
+async function apiRequest<T>(
+  endpoint: string,
+  options: RequestInit = {}
+): Promise<T> {
+  const data = await apiResponse<T>(endpoint, options);
   return data.data as T;
 }
 
+/**
+ * Read every page of a cursor-paginated list endpoint
+ */
+async function apiListAll<T>(endpoint: string): Promise<T[]> {
+  const items: T[] = [];
+  let pageToken: string | undefined;
+
+  do {
+    const params = new URLSearchParams({ limit: String(LIST_PAGE_SIZE) });
+    if (pageToken) {
+      params.set('pageToken', pageToken);
+    }
+    const page = await apiResponse<T[]>(`${endpoint}?${params}`, {
+      method: 'GET',
+    });
+    items.push(...(page.data ?? []));
+    pageToken = page.nextPageToken;
+  } while (pageToken);
+
+  return items;
+}
+
 // ============== User Profile ==============
 
 export interface UserProfile {
@@ -128,9 +165,7 @@ export interface CreateInterestRequest {
 }
 
 export async function getInterests(): Promise<Interest[]> {
-  return apiRequest<Interest[]>('/v1/api/interests', {
-    method: 'GET',
-  });
+  return apiListAll<Interest>('/v1/api/interests');
 }
 
 export async function postInterest(data: CreateInterestRequest): Promise<Interest> {
@@ -140,6 +175,25 @@ export async function postInterest(data: CreateInterestRequest): Promise<Interes
   });
 }
 
+export interface BatchItemResult<T> {
+  index: number;
+  success: boolean;
+  data?: T;
+  error?: {
+    message: string;
+    code: string;
+  };
+}
+
+export async function postInterests(
+  interests: CreateInterestRequest[]
+): Promise<BatchItemResult<Interest>[]> {
+  return apiRequest<BatchItemResult<Interest>[]>('/v1/api/interests/batch', {
+    method: 'POST',
+    body: JSON.stringify({ interests }),
+  });
+}
+
 // ============== Test Drives ==============
 
 export interface TestDrive {
@@ -160,12 +214,26 @@ export interface CreateTestDriveRequest {
   preferredDate: string;
 }
 
-export async function getTestDrives(): Promise<TestDrive[]> {
-  return apiRequest<TestDrive[]>('/v1/api/test-drives', {
+export interface TestDriveSlot {
+  start: string;
+  end: string;
+  remaining: number;
+}
+
+export async function getTestDriveAvailability(
+  dealerId: string,
+  days = 14
+): Promise<TestDriveSlot[]> {
+  const params = new URLSearchParams({ dealerId, days: String(days) });
+  return apiRequest<TestDriveSlot[]>(`/v1/api/test-drives/availability?${params}`, {
     method: 'GET',
   });
 }
 
+export async function getTestDrives(): Promise<TestDrive[]> {
+  return apiListAll<TestDrive>('/v1/api/test-drives');
+}
+
 export async function postTestDrive(
   data: CreateTestDriveRequest
 ): Promise<TestDrive> {
@@ -175,6 +243,81 @@ export async function postTestDrive(
   });
 }
 
+// ============== Dashboard ==============
+
+export interface Dashboard {
+  profile: UserProfile;
+  interestCount: number;
+  testDriveCount: number;
+  // Newest first; the full lists are paged through getInterests/getTestDrives
+  recentInterests: Interest[];
+  recentTestDrives: TestDrive[];
+}
+
+export async function getDashboard(): Promise<Dashboard> {
+  return apiRequest<Dashboard>('/v1/api/user/me/dashboard', {
+    method: 'GET',
+  });
+}
+
+// ============== Composite ==============
+
+export type CompositePartName =
+  | 'car'
+  | 'profile'
+  | 'activity'
+  | 'interests'
+  | 'testDrives'
+  | 'availability';
+
+// Each part succeeds, fails or misses the deadline on its own
+export interface CompositePart<T> {
+  status: 'ok' | 'error' | 'timeout';
+  data?: T;
+  error?: {
+    message: string;
+    code: string;
+  };
+  latencyMs: number;
+}
+
+export interface CompositeRequest {
+  parts: CompositePartName[];
+  // Selects the car and narrows interests and test drives to it
+  carId?: string;
+  // Required for availability
+  dealerId?: string;
+  limit?: number;
+  days?: number;
+  timeoutMs?: number;
+}
+
+export interface Composite {
+  parts: {
+    car?: CompositePart<Record<string, unknown>>;
+    profile?: CompositePart<UserProfile>;
+    activity?: CompositePart<Omit<Dashboard, 'profile'>>;
+    interests?: CompositePart<Interest[]>;
+    testDrives?: CompositePart<TestDrive[]>;
+    availability?: CompositePart<TestDriveSlot[]>;
+  };
+  // False when any part failed or timed out
+  complete: boolean;
+  latencyMs: number;
+}
+
+export async function getComposite(request: CompositeRequest): Promise<Composite> {
+  const params = new URLSearchParams({ parts: request.parts.join(',') });
+  if (request.carId) params.set('carId', request.carId);
+  if (request.dealerId) params.set('dealerId', request.dealerId);
+  if (request.limit) params.set('limit', String(request.limit));
+  if (request.days) params.set('days', String(request.days));
+  if (request.timeoutMs) params.set('timeoutMs', String(request.timeoutMs));
+  return apiRequest<Composite>(`/v1/api/composite?${params}`, {
+    method: 'GET',
+  });
+}
+
 // ============== Auth Verification ==============
 
 export interface AuthVerifyResponse {
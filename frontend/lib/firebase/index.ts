@@ -18,8 +18,12 @@ export {
   updateUserProfile,
   getInterests,
   postInterest,
+  postInterests,
   getTestDrives,
+  getTestDriveAvailability,
   postTestDrive,
+  getDashboard,
+  getComposite,
   verifyAuth,
 } from './api';
 export type {
@@ -28,7 +32,14 @@ export type {
   UpdateProfileRequest,
   Interest,
   CreateInterestRequest,
+  BatchItemResult,
   TestDrive,
   CreateTestDriveRequest,
+  TestDriveSlot,
+  Dashboard,
+  CompositePartName,
+  CompositePart,
+  CompositeRequest,
+  Composite,
   AuthVerifyResponse,
 } from './api';